@@ -0,0 +1,96 @@
+package bench;
+
+import client.Bodies;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import pojo.Courier;
+import pojo.LoginRequest;
+import pojo.OrderRequest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// Данные для бенчмарков: те же тела, что отправляют тесты, и синтетические ответы стенда
+final class Payloads {
+    private static final Gson GSON = new Gson();
+
+    private Payloads() {
+    }
+
+    static OrderRequest order() {
+        return OrderRequest.sample(List.of("BLACK", "GREY"));
+    }
+
+    static Courier courier() {
+        return new Courier("ninja_4242", "1234", "saske");
+    }
+
+    static LoginRequest login() {
+        return new LoginRequest("ninja_4242", "1234");
+    }
+
+    static Object request(String name) {
+        switch (name) {
+            case "order":
+                return order();
+            case "courier":
+                return courier();
+            case "login":
+                return login();
+            default:
+                throw new IllegalArgumentException("Неизвестное тело запроса: " + name);
+        }
+    }
+
+    // Те же тела через шаблоны Bodies: на каждый вызов только склейка готовых байт
+    static Supplier<byte[]> template(String name) {
+        switch (name) {
+            case "order":
+                List<String> colors = List.of("BLACK", "GREY");
+                return () -> Bodies.ORDER.with(colors);
+            case "courier":
+                return () -> Bodies.COURIER.with("ninja_4242", "1234", "saske");
+            case "login":
+                return () -> Bodies.LOGIN.with("ninja_4242", "1234");
+            default:
+                throw new IllegalArgumentException("Неизвестное тело запроса: " + name);
+        }
+    }
+
+    static String idResponse() {
+        return "{\"id\":123456}";
+    }
+
+    static String errorResponse() {
+        return "{\"code\":404,\"message\":\"Учетная запись не найдена\"}";
+    }
+
+    static String trackResponse() {
+        return "{\"track\":654321}";
+    }
+
+    // Ответ GET /api/v1/orders с заданным числом заказов, в формате стенда
+    static String ordersResponse(int count) {
+        JsonArray orders = new JsonArray();
+        for (int i = 0; i < count; i++) {
+            JsonObject order = GSON.toJsonTree(order()).getAsJsonObject();
+            order.addProperty("id", i + 1);
+            order.addProperty("track", 100000 + i);
+            order.addProperty("courierId", i % 3 == 0 ? null : i);
+            order.addProperty("status", i % 3);
+            order.addProperty("createdAt", "2020-06-02T15:03:13.845Z");
+            order.addProperty("updatedAt", "2020-06-02T15:03:13.845Z");
+            orders.add(order);
+        }
+        JsonObject pageInfo = new JsonObject();
+        pageInfo.addProperty("page", 0);
+        pageInfo.addProperty("total", count);
+        pageInfo.addProperty("limit", count);
+        JsonObject body = new JsonObject();
+        body.add("orders", orders);
+        body.add("pageInfo", pageInfo);
+        body.add("availableStations", new JsonArray());
+        return GSON.toJson(body);
+    }
+}
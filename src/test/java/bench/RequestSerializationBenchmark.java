@@ -0,0 +1,67 @@
+package bench;
+
+import com.google.gson.Gson;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.internal.mapping.ObjectMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Сериализация тел запросов: напрямую через Gson, тем же путём, что .body(obj) в RestAssured,
+// и склейкой из шаблона BodyTemplate, как в тестах и нагрузке
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSerializationBenchmark {
+
+    @Param({"order", "courier", "login"})
+    public String body;
+
+    private Object request;
+    private Gson gson;
+    private ObjectMapperConfig objectMapperConfig;
+    private EncoderConfig encoderConfig;
+    private Supplier<byte[]> template;
+
+    @Setup
+    public void setUp() {
+        request = Payloads.request(body);
+        gson = new Gson();
+        objectMapperConfig = ObjectMapperConfig.objectMapperConfig();
+        encoderConfig = EncoderConfig.encoderConfig();
+        template = Payloads.template(body);
+    }
+
+    @Benchmark
+    public byte[] gson() {
+        return gson.toJson(request).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] restAssuredDefaultMapper() {
+        // null вместо ObjectMapperType — RestAssured сам выбирает маппер, как при given().body(obj)
+        return ObjectMapping.serialize(request, "application/json", "UTF-8", null,
+                objectMapperConfig, encoderConfig).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] bodyTemplate() {
+        return template.get();
+    }
+}
@@ -0,0 +1,160 @@
+package bench;
+
+import com.google.gson.Gson;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pojo.CourierIdResponse;
+import pojo.ErrorResponse;
+import pojo.OrderTrackResponse;
+import pojo.OrdersPage;
+
+import java.util.concurrent.TimeUnit;
+
+import static matchers.ResponseMatchers.hasCourierId;
+import static matchers.ResponseMatchers.hasMessage;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+// Извлечение id/track и списка заказов из ответа: JsonPath/GPath против типизированной десериализации
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseExtractionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SmallResponses {
+        Gson gson;
+        String idBody;
+        String trackBody;
+        Response idResponse;
+        Response trackResponse;
+        Response errorResponse;
+
+        @Setup
+        public void setUp() {
+            gson = new Gson();
+            idBody = Payloads.idResponse();
+            trackBody = Payloads.trackResponse();
+            idResponse = response(idBody);
+            trackResponse = response(trackBody);
+            errorResponse = response(Payloads.errorResponse());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class OrdersResponse {
+        @Param({"30", "1000"})
+        public int orders;
+
+        Gson gson;
+        String body;
+        Response response;
+
+        @Setup
+        public void setUp() {
+            gson = new Gson();
+            body = Payloads.ordersResponse(orders);
+            response = response(body);
+        }
+    }
+
+    @Benchmark
+    public String idJsonPath(SmallResponses state) {
+        return state.idResponse.jsonPath().getString("id");
+    }
+
+    @Benchmark
+    public Object idGPath(SmallResponses state) {
+        return state.idResponse.path("id");
+    }
+
+    @Benchmark
+    public Integer idRestAssuredAs(SmallResponses state) {
+        return state.idResponse.as(CourierIdResponse.class).getId();
+    }
+
+    @Benchmark
+    public Integer idGsonTyped(SmallResponses state) {
+        return state.gson.fromJson(state.idBody, CourierIdResponse.class).getId();
+    }
+
+    @Benchmark
+    public Object trackGPath(SmallResponses state) {
+        return state.trackResponse.path("track");
+    }
+
+    @Benchmark
+    public Integer trackGsonTyped(SmallResponses state) {
+        return state.gson.fromJson(state.trackBody, OrderTrackResponse.class).getTrack();
+    }
+
+    // Проверки теста целиком: как было (GPath в .body()) и как стало (extract().as() и matcher)
+    @Benchmark
+    public Object loginCheckGPath(SmallResponses state) {
+        return state.idResponse.then()
+                .statusCode(200)
+                .body("id", notNullValue());
+    }
+
+    @Benchmark
+    public CourierIdResponse loginCheckTyped(SmallResponses state) {
+        CourierIdResponse id = state.idResponse.then()
+                .statusCode(200)
+                .extract().as(CourierIdResponse.class);
+        assertThat(id, hasCourierId());
+        return id;
+    }
+
+    @Benchmark
+    public Object errorCheckGPath(SmallResponses state) {
+        return state.errorResponse.then()
+                .statusCode(200)
+                .body("message", equalTo("Учетная запись не найдена"));
+    }
+
+    @Benchmark
+    public ErrorResponse errorCheckTyped(SmallResponses state) {
+        ErrorResponse error = state.errorResponse.then()
+                .statusCode(200)
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Учетная запись не найдена"));
+        return error;
+    }
+
+    @Benchmark
+    public int ordersJsonPath(OrdersResponse state) {
+        return state.response.jsonPath().getList("orders").size();
+    }
+
+    @Benchmark
+    public int ordersRestAssuredAs(OrdersResponse state) {
+        return state.response.as(OrdersPage.class).getOrders().size();
+    }
+
+    @Benchmark
+    public int ordersGsonTyped(OrdersResponse state) {
+        return state.gson.fromJson(state.body, OrdersPage.class).getOrders().size();
+    }
+
+    private static Response response(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=utf-8")
+                .setBody(body)
+                .build();
+    }
+}
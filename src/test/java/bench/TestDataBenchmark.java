@@ -0,0 +1,66 @@
+package bench;
+
+import com.github.javafaker.Faker;
+import data.TestData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pojo.OrderRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// Генерация данных курьера: прежний путь через Faker (экземпляр на поток) против TestData.
+// Несколько потоков — как при параллельном прогоне тестов; newFaker показывает цену создания Faker.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class TestDataBenchmark {
+
+    private Faker faker;
+
+    @Setup
+    public void setUp() {
+        faker = new Faker();
+    }
+
+    @Benchmark
+    public void fakerCourier(Blackhole blackhole) {
+        blackhole.consume(faker.name().username());
+        blackhole.consume(faker.internet().password());
+        blackhole.consume(faker.name().firstName());
+    }
+
+    @Benchmark
+    public void testDataCourier(Blackhole blackhole) {
+        blackhole.consume(TestData.login());
+        blackhole.consume(TestData.password());
+        blackhole.consume(TestData.firstName());
+    }
+
+    @Benchmark
+    public OrderRequest testDataOrder() {
+        return TestData.order();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    public String newFaker() {
+        return new Faker().name().username();
+    }
+}
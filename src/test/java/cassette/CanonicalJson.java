@@ -0,0 +1,45 @@
+package cassette;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// JSON с отсортированными ключами объектов, чтобы порядок полей не влиял на сравнение
+final class CanonicalJson {
+    private static final JsonPrimitive MASK = new JsonPrimitive("<ignored>");
+
+    private CanonicalJson() {
+    }
+
+    static String canonical(JsonElement element) {
+        return sorted(element, Set.of()).toString();
+    }
+
+    // значения полей ignored (id, track, даты) заменяются меткой: они меняются от запуска к запуску
+    static String masked(JsonElement element, Set<String> ignored) {
+        return sorted(element, ignored).toString();
+    }
+
+    private static JsonElement sorted(JsonElement element, Set<String> ignored) {
+        if (element.isJsonObject()) {
+            Map<String, JsonElement> fields = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> field : element.getAsJsonObject().entrySet()) {
+                fields.put(field.getKey(), ignored.contains(field.getKey()) ? MASK : sorted(field.getValue(), ignored));
+            }
+            JsonObject object = new JsonObject();
+            fields.forEach(object::add);
+            return object;
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = new JsonArray();
+            element.getAsJsonArray().forEach(item -> array.add(sorted(item, ignored)));
+            return array;
+        }
+        return element;
+    }
+}
@@ -0,0 +1,249 @@
+package cassette;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Кассета на диске: cassette.dat — записи ответов подряд, cassette.idx — отсортированный по хэшу
+// запроса массив (hash, offset, length), который читается через mmap и ищется бинарным поиском.
+// Новые записи дописываются в конец cassette.dat; flush() переписывает cassette.dat, оставляя только записи
+// из индекса (перезаписанные ответы не копятся), и затем целиком индекс.
+public class Cassette {
+    private static final int MAGIC = 0x43415331; // "CAS1"
+    private static final int HEADER_BYTES = 8;
+    private static final int ENTRY_BYTES = 20;
+
+    private final Path indexFile;
+    private final Path dataFile;
+    private FileChannel data;
+    private MappedByteBuffer index;
+    private int indexSize;
+    private final Map<Long, long[]> appended = new ConcurrentHashMap<>();
+    private long dataSize;
+
+    public Cassette(Path directory, boolean writable) {
+        this.indexFile = directory.resolve("cassette.idx");
+        this.dataFile = directory.resolve("cassette.dat");
+        try {
+            if (writable) {
+                Files.createDirectories(directory);
+                data = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+            } else {
+                data = Files.exists(dataFile) ? FileChannel.open(dataFile, StandardOpenOption.READ) : null;
+            }
+            dataSize = data == null ? 0 : data.size();
+            if (Files.exists(indexFile) && data != null) {
+                try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                    index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+                if (index.getInt(0) != MAGIC) {
+                    throw new IllegalStateException("Не кассета: " + indexFile);
+                }
+                indexSize = index.getInt(4);
+            } else {
+                index = null;
+                indexSize = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Cassette shared() {
+        return Holder.INSTANCE;
+    }
+
+    public Optional<Recording> find(RequestKey key) {
+        long[] location = appended.get(key.getHash());
+        if (location == null) {
+            location = lookup(key.getHash());
+        }
+        if (location == null) {
+            return Optional.empty();
+        }
+        Recording recording = read(location[0], (int) location[1]);
+        // совпал только хэш — считаем промахом
+        return recording.getRequest().equals(key.getNormalized()) ? Optional.of(recording) : Optional.empty();
+    }
+
+    public synchronized void record(Recording recording) {
+        RequestKey key = new RequestKey(recording.getRequest());
+        byte[] bytes = encode(recording);
+        try {
+            data.write(ByteBuffer.wrap(bytes), dataSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        appended.put(key.getHash(), new long[]{dataSize, bytes.length});
+        dataSize += bytes.length;
+    }
+
+    public int size() {
+        Set<Long> hashes = new HashSet<>(appended.keySet());
+        for (int i = 0; i < indexSize; i++) {
+            hashes.add(index.getLong(HEADER_BYTES + i * ENTRY_BYTES));
+        }
+        return hashes.size();
+    }
+
+    // Сливает старый индекс с новыми записями (новые важнее), переписывает в новый cassette.dat только
+    // записи из индекса и атомарно заменяет cassette.dat, затем cassette.idx. Зовётся в конце записи,
+    // когда запросов к кассете уже нет.
+    public synchronized void flush() {
+        if (appended.isEmpty()) {
+            return;
+        }
+        TreeMap<Long, long[]> entries = new TreeMap<>();
+        for (int i = 0; i < indexSize; i++) {
+            int position = HEADER_BYTES + i * ENTRY_BYTES;
+            entries.put(index.getLong(position), new long[]{index.getLong(position + 8), index.getInt(position + 16)});
+        }
+        entries.putAll(appended);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + entries.size() * ENTRY_BYTES);
+        buffer.putInt(MAGIC).putInt(entries.size());
+        try {
+            Path compacted = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+            long offset = 0;
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (Map.Entry<Long, long[]> entry : entries.entrySet()) {
+                    long from = entry.getValue()[0];
+                    int length = (int) entry.getValue()[1];
+                    long copied = 0;
+                    while (copied < length) {
+                        long transferred = data.transferTo(from + copied, length - copied, out);
+                        if (transferred <= 0) {
+                            throw new IllegalStateException("Обрезанная запись кассеты на смещении " + from);
+                        }
+                        copied += transferred;
+                    }
+                    buffer.putLong(entry.getKey()).putLong(offset).putInt(length);
+                    offset += length;
+                }
+                out.force(false);
+            }
+            buffer.flip();
+
+            Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            data.close();
+            Files.move(compacted, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // дальше кассета читает уже новые файлы
+            data = FileChannel.open(dataFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            dataSize = data.size();
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            indexSize = entries.size();
+            appended.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long[] lookup(long hash) {
+        // TreeMap<Long> при записи сортирует со знаком, поэтому и здесь Long.compare
+        int low = 0;
+        int high = indexSize - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int position = HEADER_BYTES + middle * ENTRY_BYTES;
+            int compare = Long.compare(index.getLong(position), hash);
+            if (compare < 0) {
+                low = middle + 1;
+            } else if (compare > 0) {
+                high = middle - 1;
+            } else {
+                return new long[]{index.getLong(position + 8), index.getInt(position + 16)};
+            }
+        }
+        return null;
+    }
+
+    private Recording read(long offset, int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (data.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IllegalStateException("Обрезанная запись кассеты на смещении " + offset);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+        String request = string(buffer);
+        int status = buffer.getInt();
+        String contentType = string(buffer);
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+        return new Recording(request, status, contentType, body);
+    }
+
+    private static byte[] encode(Recording recording) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(recording.getBody().length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, recording.getRequest());
+            out.writeInt(recording.getStatus());
+            writeString(out, recording.getContentType());
+            out.writeInt(recording.getBody().length);
+            out.write(recording.getBody());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Holder {
+        private static final Cassette INSTANCE = create();
+
+        private static Cassette create() {
+            boolean recording = CassetteMode.current() == CassetteMode.RECORD;
+            Cassette cassette = new Cassette(Paths.get(System.getProperty("cassette.dir", "cassettes")), recording);
+            if (recording) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    cassette.flush();
+                    System.out.println("Cassette: " + cassette.size() + " recordings");
+                }, "cassette-flush"));
+            }
+            return cassette;
+        }
+    }
+}
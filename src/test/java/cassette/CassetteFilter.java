@@ -0,0 +1,100 @@
+package cassette;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Запись и воспроизведение ответов стенда (см. CassetteMode).
+// replay отдаёт записанный ответ без сети, при промахе идёт в сеть, а с -Dcassette.offline=true падает.
+// strict сверяет живой ответ с записью: статус и JSON тела без полей cassette.ignoreFields.
+public class CassetteFilter implements Filter {
+    private static final Set<String> IGNORED_FIELDS = Arrays.stream(
+                    System.getProperty("cassette.ignoreFields", "id,track,createdAt,updatedAt").split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .collect(Collectors.toSet());
+
+    private final CassetteMode mode = CassetteMode.current();
+    private final boolean offline = Boolean.getBoolean("cassette.offline");
+
+    public static boolean isLive() {
+        return CassetteMode.current() != CassetteMode.REPLAY;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (mode == CassetteMode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        RequestKey key = RequestKey.of(requestSpec);
+        Cassette cassette = Cassette.shared();
+        switch (mode) {
+            case RECORD: {
+                Response response = ctx.next(requestSpec, responseSpec);
+                cassette.record(new Recording(key.getNormalized(), response.statusCode(), response.contentType(),
+                        response.asByteArray()));
+                return response;
+            }
+            case REPLAY: {
+                Optional<Recording> recording = cassette.find(key);
+                if (recording.isPresent()) {
+                    return toResponse(recording.get());
+                }
+                if (offline) {
+                    throw new AssertionError("Нет записи в кассете для запроса: " + key);
+                }
+                return ctx.next(requestSpec, responseSpec);
+            }
+            case STRICT: {
+                Response response = ctx.next(requestSpec, responseSpec);
+                cassette.find(key).ifPresent(recording -> checkDrift(key, recording, response));
+                return response;
+            }
+            default:
+                throw new IllegalStateException("Неизвестный режим кассеты: " + mode);
+        }
+    }
+
+    private static Response toResponse(Recording recording) {
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(recording.getStatus())
+                .setStatusLine("HTTP/1.1 " + recording.getStatus())
+                .setBody(recording.getBody());
+        if (!recording.getContentType().isEmpty()) {
+            builder.setContentType(recording.getContentType());
+        }
+        return builder.build();
+    }
+
+    private static void checkDrift(RequestKey key, Recording recording, Response live) {
+        String recorded = normalizedBody(recording.getBody());
+        String actual = normalizedBody(live.asByteArray());
+        if (recording.getStatus() != live.statusCode() || !recorded.equals(actual)) {
+            throw new AssertionError("Ответ разошёлся с кассетой для " + key + "\n"
+                    + "записано: " + recording.getStatus() + " " + recorded + "\n"
+                    + "получено: " + live.statusCode() + " " + actual);
+        }
+    }
+
+    private static String normalizedBody(byte[] body) {
+        String raw = new String(body, StandardCharsets.UTF_8);
+        try {
+            return CanonicalJson.masked(JsonParser.parseString(raw), IGNORED_FIELDS);
+        } catch (JsonParseException e) {
+            return raw;
+        }
+    }
+}
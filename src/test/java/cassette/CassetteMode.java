@@ -0,0 +1,11 @@
+package cassette;
+
+// -Dcassette.mode: off — только сеть, record — запись ответов, replay — ответы из кассеты,
+// strict — сеть со сверкой с записанными ответами
+public enum CassetteMode {
+    OFF, RECORD, REPLAY, STRICT;
+
+    public static CassetteMode current() {
+        return valueOf(System.getProperty("cassette.mode", "off").trim().toUpperCase());
+    }
+}
@@ -0,0 +1,32 @@
+package cassette;
+
+// Записанный ответ: статус, Content-Type и тело; request — нормализованный запрос для проверки коллизий хэша
+public final class Recording {
+    private final String request;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+
+    public Recording(String request, int status, String contentType, byte[] body) {
+        this.request = request;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,73 @@
+package cassette;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import io.restassured.specification.FilterableRequestSpecification;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Нормализованный запрос: метод, путь без адреса стенда, отсортированные query-параметры
+// и JSON тела без пробелов с отсортированными ключами. Хэш — первые 8 байт SHA-256.
+public final class RequestKey {
+    private final String normalized;
+    private final long hash;
+
+    RequestKey(String normalized) {
+        this.normalized = normalized;
+        this.hash = hash(normalized);
+    }
+
+    public static RequestKey of(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder()
+                .append(requestSpec.getMethod()).append(' ')
+                .append(requestSpec.getDerivedPath());
+        Map<String, String> query = new TreeMap<>();
+        requestSpec.getQueryParams().forEach((name, value) -> query.put(name, String.valueOf(value)));
+        char separator = '?';
+        for (Map.Entry<String, String> param : query.entrySet()) {
+            key.append(separator).append(param.getKey()).append('=').append(param.getValue());
+            separator = '&';
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            String raw = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString();
+            key.append('\n').append(canonicalBody(raw));
+        }
+        return new RequestKey(key.toString());
+    }
+
+    public String getNormalized() {
+        return normalized;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    private static String canonicalBody(String raw) {
+        try {
+            return CanonicalJson.canonical(JsonParser.parseString(raw));
+        } catch (JsonParseException e) {
+            return raw;
+        }
+    }
+
+    private static long hash(String normalized) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return normalized;
+    }
+}
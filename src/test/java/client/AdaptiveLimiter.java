@@ -0,0 +1,106 @@
+package client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// AIMD-лимит одновременных запросов к стенду: +1 за успешный ответ, пока лимит действительно
+// используется, и умножение на backoff при 5xx, таймауте или задержке выше порога.
+// Порог задержки — minRtt * tolerance, но не ниже latencyFloor; minRtt периодически сбрасывается,
+// чтобы подстраиваться под стенд, который стал медленнее.
+public class AdaptiveLimiter {
+    private static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoff;
+    private final double tolerance;
+    private final long latencyFloorNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samples;
+    private long drops;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, double backoff, double tolerance,
+                           long latencyFloorMillis) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoff = backoff;
+        this.tolerance = tolerance;
+        this.latencyFloorNanos = TimeUnit.MILLISECONDS.toNanos(latencyFloorMillis);
+    }
+
+    public void acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long left = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (left <= 0) {
+                    throw new IllegalStateException("Не дождались слота лимитера за " + timeout + " " + unit
+                            + ": " + this);
+                }
+                left = released.awaitNanos(left);
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= limit;
+            inFlight--;
+            if (++samples % MIN_RTT_RESET_SAMPLES == 0) {
+                minRttNanos = rttNanos;
+            } else {
+                minRttNanos = Math.min(minRttNanos, rttNanos);
+            }
+            long threshold = Math.max(latencyFloorNanos, (long) (minRttNanos * tolerance));
+            if (dropped || rttNanos > threshold) {
+                drops++;
+                limit = Math.max(minLimit, limit * backoff);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Слот взят, но запрос так и не ушёл (например, его отклонил предохранитель): без замера
+    public void cancel() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "limit=" + (int) limit + ", inFlight=" + inFlight + ", drops=" + drops + ", samples=" + samples;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
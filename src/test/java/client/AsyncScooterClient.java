@@ -0,0 +1,143 @@
+package client;
+
+import com.google.gson.Gson;
+import fixtures.CourierJournal;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.CancelOrderRequest;
+import pojo.Courier;
+import pojo.Endpoints;
+import pojo.LoginRequest;
+import pojo.OrderRequest;
+import pojo.OrdersQuery;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Неблокирующий клиент к тем же ручкам на java.net.http: методы сразу возвращают future, и несколько
+// потоков держат в полёте сотни запросов — для параллельной подготовки и уборки данных и нагрузки.
+// Ответ собирается в Response RestAssured, поэтому на нём работают then().statusCode().extract().as(...)
+// и матчеры ResponseMatchers. Фильтры Specs (кассеты, повторы, лимитер) сюда не входят. Время запросов
+// в LatencyStats не пишется: при сотнях запросов в полёте в него входит очередь, и бюджеты с трендами
+// синхронных ручек поплыли бы.
+public class AsyncScooterClient {
+    private static final Gson GSON = new Gson();
+    private static final Duration TIMEOUT = Duration.ofMillis(Integer.getInteger("http.timeoutMillis", 30_000));
+
+    private final HttpClient http;
+    private final String baseUri;
+
+    public AsyncScooterClient(HttpClient http, String baseUri) {
+        this.http = http;
+        this.baseUri = baseUri;
+    }
+
+    public static AsyncScooterClient shared() {
+        return Holder.INSTANCE;
+    }
+
+    public static HttpClient newHttpClient(ExecutorService executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public CompletableFuture<Response> createCourier(Courier courier) {
+        return send(request("POST", Endpoints.COURIER, courier)).thenApply(response -> {
+            if (response.statusCode() == HttpStatus.SC_CREATED) {
+                CourierJournal.shared().created(courier.getLogin(), courier.getPassword());
+            }
+            return response;
+        });
+    }
+
+    public CompletableFuture<Response> login(LoginRequest login) {
+        return send(request("POST", Endpoints.COURIER_LOGIN, login));
+    }
+
+    public CompletableFuture<Response> deleteCourier(String id) {
+        return send(request("DELETE", Endpoints.COURIER + "/" + id, null));
+    }
+
+    public CompletableFuture<Response> createOrder(OrderRequest order) {
+        return send(request("POST", Endpoints.ORDERS, order));
+    }
+
+    public CompletableFuture<Response> cancelOrder(int track) {
+        return send(request("PUT", Endpoints.ORDERS_CANCEL, new CancelOrderRequest(track)));
+    }
+
+    public CompletableFuture<Response> listOrders(OrdersQuery query) {
+        String params = query.toQueryString();
+        return send(request("GET", Endpoints.ORDERS + (params.isEmpty() ? "" : "?" + params), null));
+    }
+
+    // body сериализуется в JSON; null — запрос без тела
+    public HttpRequest request(String method, String path, Object body) {
+        return request(method, path, body == null ? null : GSON.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Готовое тело JSON (например, из BodyTemplate) уходит без сериализации
+    public HttpRequest request(String method, String path, byte[] body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json");
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    public CompletableFuture<Response> send(HttpRequest request) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(AsyncScooterClient::toResponse);
+    }
+
+    // Для нагрузки: только статус, без сборки Response
+    public CompletableFuture<Integer> status(HttpRequest request) {
+        return http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> response) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine("HTTP/1.1 " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(response.body());
+        response.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private static final class Holder {
+        private static final AsyncScooterClient INSTANCE = create();
+
+        private static AsyncScooterClient create() {
+            AtomicInteger number = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(Integer.getInteger("async.threads", 4), runnable -> {
+                Thread thread = new Thread(runnable, "scooter-async-" + number.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            return new AsyncScooterClient(newHttpClient(executor), Endpoints.baseUri());
+        }
+    }
+}
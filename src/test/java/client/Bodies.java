@@ -0,0 +1,56 @@
+package client;
+
+import pojo.Courier;
+import pojo.LoginRequest;
+import pojo.OrderRequest;
+
+import java.util.List;
+
+// Шаблоны тел запросов тестов, нагрузки и бенчмарков: сериализуются один раз при загрузке класса
+public final class Bodies {
+    // OrderRequest.sample, меняется только цвет
+    public static final BodyTemplate ORDER = BodyTemplate.of(OrderRequest.sample(List.of()), "color");
+
+    public static final BodyTemplate COURIER = BodyTemplate.of(new Courier(), "login", "password", "firstName");
+    public static final BodyTemplate COURIER_WITHOUT_LOGIN = BodyTemplate.of(new Courier(), "password", "firstName");
+    public static final BodyTemplate COURIER_WITHOUT_PASSWORD = BodyTemplate.of(new Courier(), "login", "firstName");
+    public static final BodyTemplate COURIER_WITHOUT_FIRST_NAME = BodyTemplate.of(new Courier(), "login", "password");
+
+    public static final BodyTemplate LOGIN = BodyTemplate.of(new LoginRequest(), "login", "password");
+    public static final BodyTemplate LOGIN_WITHOUT_LOGIN = BodyTemplate.of(new LoginRequest(), "password");
+    public static final BodyTemplate LOGIN_WITHOUT_PASSWORD = BodyTemplate.of(new LoginRequest(), "login");
+
+    private Bodies() {
+    }
+
+    // null — поля в теле нет, как у Gson для null-поля объекта
+    public static byte[] courier(String login, String password, String firstName) {
+        if (login != null && password != null && firstName != null) {
+            return COURIER.with(login, password, firstName);
+        }
+        if (login == null && password != null && firstName != null) {
+            return COURIER_WITHOUT_LOGIN.with(password, firstName);
+        }
+        if (login != null && password == null && firstName != null) {
+            return COURIER_WITHOUT_PASSWORD.with(login, firstName);
+        }
+        if (login != null && password != null) {
+            return COURIER_WITHOUT_FIRST_NAME.with(login, password);
+        }
+        // без двух полей и больше — редкий случай, шаблон не нужен
+        return BodyTemplate.of(new Courier(login, password, firstName)).bytes();
+    }
+
+    public static byte[] login(String login, String password) {
+        if (login != null && password != null) {
+            return LOGIN.with(login, password);
+        }
+        if (password != null) {
+            return LOGIN_WITHOUT_LOGIN.with(password);
+        }
+        if (login != null) {
+            return LOGIN_WITHOUT_PASSWORD.with(login);
+        }
+        return BodyTemplate.of(new LoginRequest()).bytes();
+    }
+}
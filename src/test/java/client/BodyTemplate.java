@@ -0,0 +1,117 @@
+package client;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+
+// Тело запроса, сериализованное Gson один раз: JSON режется на готовые куски байт вокруг полей-мест,
+// и with(...) только склеивает куски со значениями мест в массив точного размера — без рефлексии
+// маппера RestAssured и без дерева JSON на каждый запрос. Места — поля верхнего уровня; поля, которых
+// нет в шаблоне (null в объекте), добавляются в конец. Массивы, которые возвращают bytes() и with(),
+// уходят в .body(byte[]) RestAssured или AsyncScooterClient.request как есть и не меняются.
+public final class BodyTemplate {
+    private static final Gson GSON = new Gson();
+    private static final String MARKER = "@@slot%d@@";
+
+    private final String[] slots;
+    private final byte[][] chunks;
+    private final int fixedLength;
+
+    private BodyTemplate(String[] slots, byte[][] chunks) {
+        this.slots = slots;
+        this.chunks = chunks;
+        int length = 0;
+        for (byte[] chunk : chunks) {
+            length += chunk.length;
+        }
+        this.fixedLength = length;
+    }
+
+    public static BodyTemplate of(Object payload, String... slots) {
+        JsonObject tree = GSON.toJsonTree(payload).getAsJsonObject();
+        for (int i = 0; i < slots.length; i++) {
+            tree.remove(slots[i]);
+            tree.addProperty(slots[i], String.format(MARKER, i));
+        }
+        String json = GSON.toJson(tree);
+        byte[][] chunks = new byte[slots.length + 1][];
+        int from = 0;
+        for (int i = 0; i < slots.length; i++) {
+            String marker = "\"" + String.format(MARKER, i) + "\"";
+            int at = json.indexOf(marker, from);
+            if (at < 0 || json.indexOf(marker, at + 1) >= 0) {
+                throw new IllegalArgumentException("Поле " + slots[i] + " не найдено в шаблоне ровно один раз: " + json);
+            }
+            chunks[i] = json.substring(from, at).getBytes(StandardCharsets.UTF_8);
+            from = at + marker.length();
+        }
+        chunks[slots.length] = json.substring(from).getBytes(StandardCharsets.UTF_8);
+        return new BodyTemplate(slots.clone(), chunks);
+    }
+
+    // Тело без мест — всегда один и тот же массив
+    public byte[] bytes() {
+        if (slots.length != 0) {
+            throw new IllegalStateException("У шаблона есть места " + String.join(", ", slots) + ", нужен with(...)");
+        }
+        return chunks[0];
+    }
+
+    // Значения мест по порядку: String — строка JSON, null — null, остальное (списки, числа) — через Gson
+    public byte[] with(Object... values) {
+        if (values.length != slots.length) {
+            throw new IllegalArgumentException("Ожидалось значений: " + slots.length + ", передано: " + values.length);
+        }
+        byte[][] encoded = new byte[values.length][];
+        int length = fixedLength;
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = encode(values[i]);
+            length += encoded[i].length;
+        }
+        byte[] body = new byte[length];
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            System.arraycopy(chunks[i], 0, body, position, chunks[i].length);
+            position += chunks[i].length;
+            System.arraycopy(encoded[i], 0, body, position, encoded[i].length);
+            position += encoded[i].length;
+        }
+        System.arraycopy(chunks[values.length], 0, body, position, chunks[values.length].length);
+        return body;
+    }
+
+    private static byte[] encode(Object value) {
+        if (value == null) {
+            return "null".getBytes(StandardCharsets.UTF_8);
+        }
+        if (value instanceof String) {
+            return quote((String) value);
+        }
+        return GSON.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Строка JSON; экранирование то же, что у Gson по умолчанию (кавычки, \, управляющие и HTML-символы)
+    private static byte[] quote(String value) {
+        if (!needsEscaping(value)) {
+            byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+            byte[] quoted = new byte[raw.length + 2];
+            quoted[0] = '"';
+            System.arraycopy(raw, 0, quoted, 1, raw.length);
+            quoted[quoted.length - 1] = '"';
+            return quoted;
+        }
+        return GSON.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean needsEscaping(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\' || c == '<' || c == '>' || c == '&' || c == '=' || c == '\''
+                    || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package client;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Предохранитель одной ручки: при доле ошибок не меньше failureRate среди последних window вызовов
+// размыкается на openMillis и сразу роняет запросы, затем пропускает один пробный запрос.
+public class CircuitBreaker {
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final boolean[] failuresWindow;
+    private final int minCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int next;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(String name, int window, int minCalls, double failureRate, long openMillis) {
+        this.name = name;
+        this.failuresWindow = new boolean[window];
+        this.minCalls = minCalls;
+        this.failureRate = failureRate;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    public synchronized void acquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                throw new IllegalStateException("Стенд отвечает ошибками, запросы к " + name
+                        + " временно не отправляются (" + failures + " из " + calls + " последних вызовов)");
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                throw new IllegalStateException("Ждём пробный запрос к " + name + " после серии ошибок");
+            }
+            probing = true;
+        }
+    }
+
+    public synchronized void record(boolean success) {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+            if (success) {
+                reset();
+            } else {
+                open();
+            }
+            return;
+        }
+        if (calls == failuresWindow.length && failuresWindow[next]) {
+            failures--;
+        }
+        failuresWindow[next] = !success;
+        if (!success) {
+            failures++;
+        }
+        next = (next + 1) % failuresWindow.length;
+        calls = Math.min(calls + 1, failuresWindow.length);
+        if (state == State.CLOSED && calls >= minCalls && failures >= failureRate * calls) {
+            open();
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        Arrays.fill(failuresWindow, false);
+    }
+}
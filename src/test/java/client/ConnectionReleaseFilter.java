@@ -0,0 +1,21 @@
+package client;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+// RestAssured читает тело лениво: без проверок тела соединение так и остаётся занятым в общем пуле.
+// Фильтр сразу вычитывает ответ в память, и соединение возвращается в пул до выхода из given().
+public class ConnectionReleaseFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+}
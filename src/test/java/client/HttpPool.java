@@ -0,0 +1,269 @@
+package client;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Общий пул keep-alive соединений для всех запросов RestAssured.
+// RestAssured 5 работает только с устаревшим AbstractHttpClient и после каждого ответа закрывает
+// менеджер соединений, если клиент не переиспользуется, поэтому на каждый запрос создаётся лёгкий
+// DefaultHttpClient поверх одного пула, а shutdown() от RestAssured пул игнорирует.
+// isolated() — отдельный пул со своими счётчиками для тестов самого пула: параллельные тесты
+// на общем пуле меняют его счётчики и разбирают свободные соединения.
+@SuppressWarnings("deprecation")
+public class HttpPool implements AutoCloseable {
+    private static final int MAX_PER_ROUTE = Integer.getInteger("http.pool.maxPerRoute", 64);
+    private static final int MAX_TOTAL = Integer.getInteger("http.pool.maxTotal", 256);
+    private static final long IDLE_SECONDS = Long.getLong("http.pool.idleSeconds", 15);
+    private static final int TIMEOUT_MILLIS = Integer.getInteger("http.timeoutMillis", 30_000);
+    private static final boolean RESILIENCE = Boolean.parseBoolean(System.getProperty("http.resilience", "true"));
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final HttpPool SHARED = createShared();
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder connects = new LongAdder();
+    private final LongAdder handshakes = new LongAdder();
+    private final PoolingClientConnectionManager pool;
+    private final ClientConnectionManager manager;
+    private final ScheduledFuture<?> eviction;
+
+    private HttpPool() {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, new CountingSocketFactory(PlainSocketFactory.getSocketFactory(), false)));
+        schemes.register(new Scheme("https", 443, new CountingLayeredSocketFactory(SSLSocketFactory.getSocketFactory())));
+        pool = new PoolingClientConnectionManager(schemes, host -> {
+            long started = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                RequestTimer.addDns(System.nanoTime() - started);
+            }
+        });
+        pool.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+        pool.setMaxTotal(MAX_TOTAL);
+        manager = new SharedManager(pool, leases);
+
+        long period = Math.max(1, IDLE_SECONDS / 2);
+        eviction = EVICTOR.scheduleAtFixedRate(() -> {
+            pool.closeExpiredConnections();
+            pool.closeIdleConnections(IDLE_SECONDS, TimeUnit.SECONDS);
+        }, period, period, TimeUnit.SECONDS);
+    }
+
+    public static HttpClient newClient() {
+        return SHARED.client();
+    }
+
+    public static Stats stats() {
+        return SHARED.poolStats();
+    }
+
+    public static HttpPool isolated() {
+        return new HttpPool();
+    }
+
+    public HttpClient client() {
+        DefaultHttpClient client = RESILIENCE ? new ResilientHttpClient(manager) : new DefaultHttpClient(manager);
+        // без таймаутов зависший стенд не превратится в ошибку, и лимитер с предохранителем его не заметят
+        HttpConnectionParams.setConnectionTimeout(client.getParams(), TIMEOUT_MILLIS);
+        HttpConnectionParams.setSoTimeout(client.getParams(), TIMEOUT_MILLIS);
+        client.addResponseInterceptor((response, context) -> RequestTimer.markFirstByte());
+        return client;
+    }
+
+    public Stats poolStats() {
+        PoolStats total = pool.getTotalStats();
+        return new Stats(leases.sum(), connects.sum(), handshakes.sum(), total.getLeased(), total.getAvailable());
+    }
+
+    @Override
+    public void close() {
+        eviction.cancel(false);
+        pool.shutdown();
+    }
+
+    private static HttpPool createShared() {
+        HttpPool shared = new HttpPool();
+        // пул не закрываем: shutdown hooks идут параллельно, и фикстуры в это время ещё удаляют курьеров
+        if (Boolean.parseBoolean(System.getProperty("http.pool.report", "true"))) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                System.out.println("HTTP pool: " + shared.poolStats());
+                if (RESILIENCE) {
+                    System.out.println("Concurrency limiter: " + ResilientRequestDirector.limiter());
+                }
+            }, "http-pool-report"));
+        }
+        return shared;
+    }
+
+    public static final class Stats {
+        private final long leases;
+        private final long connects;
+        private final long handshakes;
+        private final int leased;
+        private final int idle;
+
+        private Stats(long leases, long connects, long handshakes, int leased, int idle) {
+            this.leases = leases;
+            this.connects = connects;
+            this.handshakes = handshakes;
+            this.leased = leased;
+            this.idle = idle;
+        }
+
+        public long getLeases() {
+            return leases;
+        }
+
+        public long getHits() {
+            return Math.max(0, leases - connects);
+        }
+
+        public long getMisses() {
+            return connects;
+        }
+
+        public long getHandshakes() {
+            return handshakes;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        @Override
+        public String toString() {
+            return "leases=" + leases +
+                    ", hits=" + getHits() +
+                    ", misses=" + getMisses() +
+                    ", tlsHandshakes=" + handshakes +
+                    ", leased=" + leased +
+                    ", idle=" + idle;
+        }
+    }
+
+    private static final class SharedManager implements ClientConnectionManager {
+        private final PoolingClientConnectionManager delegate;
+        private final LongAdder leases;
+
+        private SharedManager(PoolingClientConnectionManager delegate, LongAdder leases) {
+            this.delegate = delegate;
+            this.leases = leases;
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return delegate.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            leases.increment();
+            return delegate.requestConnection(route, state);
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {
+            delegate.releaseConnection(conn, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeIdleConnections(long idletime, TimeUnit tunit) {
+            delegate.closeIdleConnections(idletime, tunit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            delegate.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            // пул живёт до конца JVM (отдельный — до close())
+        }
+    }
+
+    private class CountingSocketFactory implements SchemeSocketFactory {
+        final SchemeSocketFactory delegate;
+        private final boolean secure;
+
+        private CountingSocketFactory(SchemeSocketFactory delegate, boolean secure) {
+            this.delegate = delegate;
+            this.secure = secure;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket sock, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, UnknownHostException, ConnectTimeoutException {
+            connects.increment();
+            if (secure) {
+                handshakes.increment();
+            }
+            // для https сюда входит и TLS handshake
+            long started = System.nanoTime();
+            try {
+                return delegate.connectSocket(sock, remoteAddress, localAddress, params);
+            } finally {
+                RequestTimer.addConnect(System.nanoTime() - started);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket sock) {
+            return delegate.isSecure(sock);
+        }
+    }
+
+    // Route planner считает схему защищённой, только если фабрика layered, поэтому TLS-обёртка отдельным классом
+    private final class CountingLayeredSocketFactory extends CountingSocketFactory implements SchemeLayeredSocketFactory {
+        private CountingLayeredSocketFactory(SchemeLayeredSocketFactory delegate) {
+            super(delegate, true);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params)
+                throws IOException, UnknownHostException {
+            handshakes.increment();
+            return ((SchemeLayeredSocketFactory) delegate).createLayeredSocket(socket, target, port, params);
+        }
+    }
+}
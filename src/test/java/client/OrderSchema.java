@@ -0,0 +1,66 @@
+package client;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Схема заказа из списка GET /api/v1/orders: обязательные поля и их типы
+public final class OrderSchema {
+
+    private OrderSchema() {
+    }
+
+    public static List<String> violations(JsonObject order) {
+        List<String> violations = new ArrayList<>();
+        requireNumber(order, "id", violations);
+        requireNumber(order, "track", violations);
+        requireNumber(order, "status", violations);
+        requireString(order, "firstName", violations);
+        requireString(order, "lastName", violations);
+        requireString(order, "address", violations);
+        requireString(order, "phone", violations);
+        requireString(order, "createdAt", violations);
+        // станция у стенда приходит строкой, в запросе уходит числом
+        requirePrimitive(order, "metroStation", violations);
+        requirePrimitive(order, "rentTime", violations);
+        requirePrimitive(order, "deliveryDate", violations);
+        if (order.has("courierId") && !order.get("courierId").isJsonNull() && !isNumber(order.get("courierId"))) {
+            violations.add(describe(order) + ": courierId не число");
+        }
+        if (order.has("color") && !order.get("color").isJsonNull() && !order.get("color").isJsonArray()) {
+            violations.add(describe(order) + ": color не массив");
+        }
+        return violations;
+    }
+
+    private static void requireNumber(JsonObject order, String field, List<String> violations) {
+        if (!order.has(field) || !isNumber(order.get(field))) {
+            violations.add(describe(order) + ": " + field + " отсутствует или не число");
+        }
+    }
+
+    private static void requireString(JsonObject order, String field, List<String> violations) {
+        JsonElement value = order.get(field);
+        if (value == null || !value.isJsonPrimitive() || !value.getAsJsonPrimitive().isString()) {
+            violations.add(describe(order) + ": " + field + " отсутствует или не строка");
+        }
+    }
+
+    private static void requirePrimitive(JsonObject order, String field, List<String> violations) {
+        JsonElement value = order.get(field);
+        if (value == null || !value.isJsonPrimitive()) {
+            violations.add(describe(order) + ": " + field + " отсутствует");
+        }
+    }
+
+    private static boolean isNumber(JsonElement value) {
+        return value.isJsonPrimitive() && ((JsonPrimitive) value).isNumber();
+    }
+
+    private static String describe(JsonObject order) {
+        return "заказ " + (order.has("id") ? order.get("id") : "без id");
+    }
+}
@@ -0,0 +1,49 @@
+package client;
+
+import io.restassured.response.Response;
+import pojo.CancelOrderRequest;
+import pojo.Endpoints;
+import pojo.OrderRequest;
+
+import static io.restassured.RestAssured.given;
+
+// Запросы жизненного цикла заказа без проверок: проверяют тесты и стадии workflow.OrderPipeline
+public final class OrdersApi {
+
+    private OrdersApi() {
+    }
+
+    public static Response create(OrderRequest order) {
+        return given()
+                .spec(Specs.base())
+                .body(order)
+                .post(Endpoints.ORDERS);
+    }
+
+    public static Response track(int track) {
+        return given()
+                .spec(Specs.base())
+                .queryParam("t", track)
+                .get(Endpoints.ORDERS_TRACK);
+    }
+
+    public static Response accept(int orderId, String courierId) {
+        return given()
+                .spec(Specs.base())
+                .queryParam("courierId", courierId)
+                .put(Endpoints.ORDERS_ACCEPT + "/" + orderId);
+    }
+
+    public static Response finish(int orderId) {
+        return given()
+                .spec(Specs.base())
+                .put(Endpoints.ORDERS_FINISH + "/" + orderId);
+    }
+
+    public static Response cancel(int track) {
+        return given()
+                .spec(Specs.base())
+                .body(new CancelOrderRequest(track))
+                .put(Endpoints.ORDERS_CANCEL);
+    }
+}
@@ -0,0 +1,129 @@
+package client;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import io.restassured.response.Response;
+import org.apache.hc.core5.http.HttpStatus;
+import perf.EndpointKey;
+import perf.LatencyStats;
+import pojo.Endpoints;
+import pojo.OrdersQuery;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static io.restassured.RestAssured.given;
+
+// Потоковый разбор списка заказов: запрос идёт через Specs.streamed() (пул, кассеты, лимитер), и тело
+// разбирается Gson JsonReader по мере прихода, по одному заказу, не собирая список в объекты.
+// first() просит у стенда одну запись и прекращает разбор после первого элемента, walk() обходит страницы
+// по limit заказов, не больше maxPages (0 — все). Полное время чтения страницы пишется в LatencyStats здесь.
+// Целиком тело читает только кассета в record и strict: ей нужна запись ответа.
+public final class OrdersStream {
+    private static final int DEFAULT_LIMIT = 30;
+
+    private OrdersStream() {
+    }
+
+    public static Optional<JsonObject> first(OrdersQuery query) {
+        JsonObject[] first = new JsonObject[1];
+        readPage(query.copy().limit(1), 1, order -> first[0] = order);
+        return Optional.ofNullable(first[0]);
+    }
+
+    // запрос вызывающего не меняется: страницы листаются на копии
+    public static Walk walk(OrdersQuery query, int maxPages, Consumer<JsonObject> consumer) {
+        int limit = query.getLimit() == null ? DEFAULT_LIMIT : query.getLimit();
+        int page = query.getPage() == null ? 0 : query.getPage();
+        OrdersQuery paged = query.copy().limit(limit);
+        Walk walk = new Walk();
+        while (true) {
+            Page read = readPage(paged.page(page), limit, consumer);
+            walk.pages++;
+            walk.orders += read.orders;
+            walk.total = read.total;
+            // страница короче limit — последняя
+            if (read.orders < limit || walk.pages == maxPages) {
+                return walk;
+            }
+            page++;
+        }
+    }
+
+    private static Page readPage(OrdersQuery query, int maxOrders, Consumer<JsonObject> consumer) {
+        long started = System.nanoTime();
+        Response response = given()
+                .spec(Specs.streamed())
+                .queryParams(query.toParams())
+                .get(Endpoints.ORDERS);
+        if (response.statusCode() != HttpStatus.SC_OK) {
+            throw new IllegalStateException("GET " + Endpoints.ORDERS + "?" + query.toQueryString() + " вернул "
+                    + response.statusCode() + ": " + response.asString());
+        }
+
+        try (InputStream body = response.asInputStream()) {
+            JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            Page page = new Page();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("orders".equals(name)) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (page.orders == maxOrders) {
+                            return page;
+                        }
+                        consumer.accept(JsonParser.parseReader(reader).getAsJsonObject());
+                        page.orders++;
+                    }
+                    reader.endArray();
+                } else if ("pageInfo".equals(name)) {
+                    JsonObject pageInfo = JsonParser.parseReader(reader).getAsJsonObject();
+                    page.total = pageInfo.has("total") ? pageInfo.get("total").getAsLong() : -1;
+                } else {
+                    reader.skipValue();
+                }
+            }
+            return page;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            LatencyStats.record(EndpointKey.of("GET", Endpoints.ORDERS), System.nanoTime() - started);
+        }
+    }
+
+    private static final class Page {
+        private int orders;
+        private long total = -1;
+    }
+
+    public static final class Walk {
+        private int pages;
+        private long orders;
+        private long total = -1;
+
+        public int getPages() {
+            return pages;
+        }
+
+        public long getOrders() {
+            return orders;
+        }
+
+        // pageInfo.total последней страницы, -1 если стенд его не вернул
+        public long getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return "pages=" + pages + ", orders=" + orders + ", total=" + total;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package client;
+
+// Фазы текущего запроса (DNS, подключение, первый байт ответа). Запросы RestAssured выполняются
+// синхронно в потоке теста, поэтому HttpPool пишет замеры в ThreadLocal, а LatencyFilter их читает.
+public final class RequestTimer {
+    private static final ThreadLocal<RequestTimer> CURRENT = ThreadLocal.withInitial(RequestTimer::new);
+
+    private long startNanos;
+    private long dnsNanos;
+    private long connectNanos;
+    private long firstByteNanos;
+
+    private RequestTimer() {
+    }
+
+    public static RequestTimer start() {
+        RequestTimer timer = CURRENT.get();
+        timer.startNanos = System.nanoTime();
+        timer.dnsNanos = 0;
+        timer.connectNanos = 0;
+        timer.firstByteNanos = 0;
+        return timer;
+    }
+
+    static void addDns(long nanos) {
+        CURRENT.get().dnsNanos += nanos;
+    }
+
+    static void addConnect(long nanos) {
+        CURRENT.get().connectNanos += nanos;
+    }
+
+    static void markFirstByte() {
+        RequestTimer timer = CURRENT.get();
+        if (timer.firstByteNanos == 0 && timer.startNanos != 0) {
+            timer.firstByteNanos = System.nanoTime() - timer.startNanos;
+        }
+    }
+
+    public long getDnsNanos() {
+        return dnsNanos;
+    }
+
+    public long getConnectNanos() {
+        return connectNanos;
+    }
+
+    public long getFirstByteNanos() {
+        return firstByteNanos;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package client;
+
+import org.apache.http.ConnectionReuseStrategy;
+import org.apache.http.client.AuthenticationStrategy;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.RedirectStrategy;
+import org.apache.http.client.RequestDirector;
+import org.apache.http.client.UserTokenHandler;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+// DefaultHttpClient, у которого каждый запрос исполняется через ResilientRequestDirector
+@SuppressWarnings("deprecation")
+class ResilientHttpClient extends DefaultHttpClient {
+
+    ResilientHttpClient(ClientConnectionManager connectionManager) {
+        super(connectionManager);
+    }
+
+    @Override
+    protected RequestDirector createClientRequestDirector(HttpRequestExecutor requestExec,
+                                                          ClientConnectionManager conman,
+                                                          ConnectionReuseStrategy reustrat,
+                                                          ConnectionKeepAliveStrategy kastrat,
+                                                          HttpRoutePlanner rouplan,
+                                                          HttpProcessor httpProcessor,
+                                                          HttpRequestRetryHandler retryHandler,
+                                                          RedirectStrategy redirectStrategy,
+                                                          AuthenticationStrategy targetAuthStrategy,
+                                                          AuthenticationStrategy proxyAuthStrategy,
+                                                          UserTokenHandler userTokenHandler,
+                                                          HttpParams params) {
+        return new ResilientRequestDirector(() -> super.createClientRequestDirector(requestExec, conman, reustrat,
+                kastrat, rouplan, httpProcessor, retryHandler, redirectStrategy, targetAuthStrategy,
+                proxyAuthStrategy, userTokenHandler, params));
+    }
+}
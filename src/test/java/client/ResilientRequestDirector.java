@@ -0,0 +1,129 @@
+package client;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.RequestDirector;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import perf.EndpointKey;
+import pojo.Endpoints;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Обёртка над исполнением одного запроса HttpClient: общий AdaptiveLimiter, CircuitBreaker на ручку
+// и повторы идемпотентных запросов при 5xx и сетевых ошибках с полным jitter.
+// Повторы живут здесь, а не в фильтре RestAssured: FilterContext.next() можно вызвать только один раз.
+@SuppressWarnings("deprecation")
+class ResilientRequestDirector implements RequestDirector {
+    private static final AdaptiveLimiter LIMITER = new AdaptiveLimiter(
+            Integer.getInteger("limiter.initial", 16),
+            Integer.getInteger("limiter.min", 1),
+            Integer.getInteger("limiter.max", 256),
+            Double.parseDouble(System.getProperty("limiter.backoff", "0.9")),
+            Double.parseDouble(System.getProperty("limiter.tolerance", "2.0")),
+            Long.getLong("limiter.latencyFloorMillis", 500));
+    private static final long ACQUIRE_SECONDS = Long.getLong("limiter.acquireSeconds", 60);
+
+    private static final int BREAKER_WINDOW = Integer.getInteger("breaker.window", 20);
+    private static final int BREAKER_MIN_CALLS = Integer.getInteger("breaker.minCalls", 10);
+    private static final double BREAKER_FAILURE_RATE = Double.parseDouble(System.getProperty("breaker.failureRate", "0.5"));
+    private static final long BREAKER_OPEN_MILLIS = Long.getLong("breaker.openMillis", 5000);
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private static final int MAX_RETRIES = Integer.getInteger("retry.max", 2);
+    private static final long RETRY_BASE_MILLIS = Long.getLong("retry.baseMillis", 100);
+    private static final long RETRY_MAX_MILLIS = Long.getLong("retry.maxMillis", 2000);
+    // PUT у стенда меняет состояние заказа (accept, finish, cancel): повтор после применённого запроса вернёт 409
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "DELETE", "OPTIONS");
+    // логин курьера ничего не меняет на стенде, поэтому его тоже можно повторять
+    private static final Set<String> SAFE_ENDPOINTS = Set.of(EndpointKey.of("POST", Endpoints.COURIER_LOGIN));
+
+    private final Supplier<RequestDirector> delegate;
+
+    ResilientRequestDirector(Supplier<RequestDirector> delegate) {
+        this.delegate = delegate;
+    }
+
+    static AdaptiveLimiter limiter() {
+        return LIMITER;
+    }
+
+    @Override
+    public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context)
+            throws HttpException, IOException {
+        String method = request.getRequestLine().getMethod();
+        String endpoint = EndpointKey.of(method, URI.create(request.getRequestLine().getUri()).getRawPath());
+        CircuitBreaker breaker = BREAKERS.computeIfAbsent(endpoint, key -> new CircuitBreaker(key,
+                BREAKER_WINDOW, BREAKER_MIN_CALLS, BREAKER_FAILURE_RATE, BREAKER_OPEN_MILLIS));
+        boolean retryable = IDEMPOTENT_METHODS.contains(method) || SAFE_ENDPOINTS.contains(endpoint);
+
+        for (int attempt = 0; ; attempt++) {
+            // сначала слот лимитера: если ожидание слота упадёт, пробный запрос предохранителя ещё не занят
+            acquireSlot();
+            try {
+                breaker.acquire();
+            } catch (RuntimeException e) {
+                LIMITER.cancel();
+                throw e;
+            }
+            long started = System.nanoTime();
+            HttpResponse response;
+            try {
+                // DefaultRequestDirector хранит состояние соединения, поэтому на каждую попытку новый
+                response = delegate.get().execute(target, request, context);
+            } catch (IOException e) {
+                finish(breaker, started, true);
+                if (!retryable || attempt >= MAX_RETRIES) {
+                    throw e;
+                }
+                backoff(attempt);
+                continue;
+            } catch (HttpException | RuntimeException e) {
+                finish(breaker, started, true);
+                throw e;
+            }
+            boolean failed = response.getStatusLine().getStatusCode() >= 500;
+            finish(breaker, started, failed);
+            if (!failed || !retryable || attempt >= MAX_RETRIES) {
+                return response;
+            }
+            // тело неудачной попытки дочитываем, чтобы соединение вернулось в пул
+            EntityUtils.consume(response.getEntity());
+            backoff(attempt);
+        }
+    }
+
+    private static void acquireSlot() throws InterruptedIOException {
+        try {
+            LIMITER.acquire(ACQUIRE_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Прервано ожидание слота лимитера");
+        }
+    }
+
+    private static void finish(CircuitBreaker breaker, long started, boolean failed) {
+        LIMITER.release(System.nanoTime() - started, failed);
+        breaker.record(!failed);
+    }
+
+    private static void backoff(int attempt) throws InterruptedIOException {
+        long ceiling = Math.min(RETRY_MAX_MILLIS, RETRY_BASE_MILLIS << attempt);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Прервано ожидание повтора");
+        }
+    }
+}
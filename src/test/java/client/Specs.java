@@ -0,0 +1,46 @@
+package client;
+
+import cassette.CassetteFilter;
+import fixtures.CourierJournalFilter;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import perf.LatencyFilter;
+import pojo.Endpoints;
+
+// Общая неизменяемая спецификация запросов: собирается один раз и не трогает глобальное состояние RestAssured
+public class Specs {
+    private static final RequestSpecification BASE = new RequestSpecBuilder()
+            .setBaseUri(Endpoints.baseUri())
+            .setContentType(ContentType.JSON)
+            .setConfig(RestAssuredConfig.config()
+                    .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(HttpPool::newClient)))
+            .addFilter(new LatencyFilter())
+            .addFilter(new CassetteFilter())
+            .addFilter(new CourierJournalFilter())
+            .addFilter(new ConnectionReleaseFilter())
+            .build();
+    // для чтения тела потоком: без ConnectionReleaseFilter и с LatencyFilter, который тело не вычитывает.
+    // Соединение возвращается в пул, когда вызывающий закроет поток тела.
+    private static final RequestSpecification STREAMED = new RequestSpecBuilder()
+            .setBaseUri(Endpoints.baseUri())
+            .setContentType(ContentType.JSON)
+            .setConfig(RestAssuredConfig.config()
+                    .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(HttpPool::newClient)))
+            .addFilter(LatencyFilter.streamed())
+            .addFilter(new CassetteFilter())
+            .build();
+
+    private Specs() {
+    }
+
+    public static RequestSpecification base() {
+        return BASE;
+    }
+
+    public static RequestSpecification streamed() {
+        return STREAMED;
+    }
+}
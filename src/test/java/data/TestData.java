@@ -0,0 +1,111 @@
+package data;
+
+import pojo.Courier;
+import pojo.OrderRequest;
+import runner.Shard;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Генератор тестовых данных без Faker: без загрузки YAML-локалей и почти без аллокаций.
+// Логины уникальны: префикс прогона (testdata.runId), номер шарда и общий счётчик, поэтому параллельные
+// прогоны, шарды одного прогона и потоки не ловят 409. Случайность — SplittableRandom на поток от общего
+// зерна testdata.seed, так что при заданном зерне значения воспроизводимы.
+public final class TestData {
+    private static final char[] ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final String[] FIRST_NAMES = {
+            "Naruto", "Sasuke", "Sakura", "Kakashi", "Hinata", "Itachi", "Shikamaru", "Gaara", "Rock", "Neji"
+    };
+    private static final String[] LAST_NAMES = {
+            "Uzumaki", "Uchiha", "Haruno", "Hatake", "Hyuga", "Nara", "Sabaku", "Lee", "Akimichi", "Inuzuka"
+    };
+    private static final String[] STREETS = {
+            "Konoha", "Tverskaya", "Arbat", "Leninsky pr.", "Profsoyuznaya", "Mira pr.", "Novy Arbat", "Pokrovka"
+    };
+    private static final String[] COLORS = {"BLACK", "GREY"};
+    private static final int METRO_STATIONS = 237;
+
+    private static final long SEED = Long.getLong("testdata.seed", System.nanoTime());
+    private static final String RUN_ID = System.getProperty("testdata.runId", runId(SEED));
+    private static final AtomicLong COUNTER = new AtomicLong();
+    private static final SplittableRandom ROOT = new SplittableRandom(SEED);
+    private static final ThreadLocal<SplittableRandom> RANDOM = ThreadLocal.withInitial(TestData::split);
+
+    private TestData() {
+    }
+
+    public static long seed() {
+        return SEED;
+    }
+
+    public static String runId() {
+        return RUN_ID;
+    }
+
+    public static String login() {
+        return "c" + RUN_ID + Shard.namespace() + "_" + Long.toString(COUNTER.incrementAndGet(), Character.MAX_RADIX);
+    }
+
+    public static String password() {
+        SplittableRandom random = RANDOM.get();
+        return randomString(random, 8 + random.nextInt(5));
+    }
+
+    public static String firstName() {
+        return pick(FIRST_NAMES);
+    }
+
+    public static Courier courier() {
+        return new Courier(login(), password(), firstName());
+    }
+
+    public static OrderRequest order() {
+        SplittableRandom random = RANDOM.get();
+        List<String> color = new ArrayList<>(COLORS.length);
+        for (String value : COLORS) {
+            if (random.nextBoolean()) {
+                color.add(value);
+            }
+        }
+        return new OrderRequest(
+                pick(FIRST_NAMES),
+                pick(LAST_NAMES),
+                pick(STREETS) + ", " + (1 + random.nextInt(200)) + " apt.",
+                1 + random.nextInt(METRO_STATIONS),
+                "+7 9" + (10 + random.nextInt(90)) + " " + (100 + random.nextInt(900))
+                        + " " + (10 + random.nextInt(90)) + " " + (10 + random.nextInt(90)),
+                1 + random.nextInt(7),
+                LocalDate.now().plusDays(1 + random.nextInt(30)).toString(),
+                "Test order " + RUN_ID,
+                color
+        );
+    }
+
+    private static String pick(String[] values) {
+        return values[RANDOM.get().nextInt(values.length)];
+    }
+
+    private static String randomString(SplittableRandom random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(chars);
+    }
+
+    // SplittableRandom не потокобезопасен, поэтому ветки для потоков отщепляются под блокировкой
+    private static SplittableRandom split() {
+        synchronized (ROOT) {
+            return ROOT.split();
+        }
+    }
+
+    private static String runId(long seed) {
+        long mixed = new SplittableRandom(seed ^ System.currentTimeMillis()).nextLong();
+        String id = Long.toString(mixed & Long.MAX_VALUE, Character.MAX_RADIX);
+        return id.substring(0, Math.min(6, id.length()));
+    }
+}
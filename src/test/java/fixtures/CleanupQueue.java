@@ -0,0 +1,227 @@
+package fixtures;
+
+import client.AsyncScooterClient;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.CourierIdResponse;
+import pojo.Endpoints;
+import pojo.LoginRequest;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Фоновое удаление созданных тестами курьеров: тест только регистрирует логин или id,
+// удаление идёт через AsyncScooterClient — не больше cleanup.parallelism запросов в полёте, без
+// отдельного потока на каждый, с повторами по таймеру, а shutdown hook дожидается очереди.
+// Удалённые курьеры отмечаются в журнале, чтобы CourierSweeper не искал их после прерванного прогона.
+public class CleanupQueue {
+    private static final long DRAIN_TIMEOUT_SECONDS = Long.getLong("cleanup.drainSeconds", 60);
+
+    private final AsyncScooterClient client;
+    private final CourierJournal journal;
+    private final int parallelism;
+    private final int retries;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private final Queue<CompletableFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<String[]> deferred = new ConcurrentLinkedQueue<>();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public CleanupQueue(AsyncScooterClient client, CourierJournal journal, int parallelism, int retries) {
+        this.client = client;
+        this.journal = journal;
+        this.parallelism = parallelism;
+        this.retries = retries;
+    }
+
+    public static CleanupQueue shared() {
+        return Holder.INSTANCE;
+    }
+
+    // Курьер известен только по логину и паролю: id узнаём логином, затем удаляем
+    public void registerLogin(String login, String password) {
+        submit(() -> withRetries(() -> findId(login, password), 0)
+                .thenCompose(id -> {
+                    if (id == null) {
+                        notFound.increment();
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    return deleteById(id);
+                })
+                .thenRun(() -> journal.deleted(login)));
+    }
+
+    public void registerId(String login, String id) {
+        submit(() -> deleteById(id).thenRun(() -> journal.deleted(login)));
+    }
+
+    // Курьеры, которые нужны до конца прогона (пул фикстур): удаляются при drain()
+    public void defer(String login, String id) {
+        deferred.add(new String[]{login, id});
+    }
+
+    public void drain(long timeout, TimeUnit unit) throws TimeoutException, InterruptedException {
+        String[] courier;
+        while ((courier = deferred.poll()) != null) {
+            registerId(courier[0], courier[1]);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        CompletableFuture<Void> future;
+        while ((future = pending.peek()) != null) {
+            long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                throw new TimeoutException("Не дождались удаления курьеров, в очереди: " + pending.size());
+            }
+            try {
+                future.get(left, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException ignored) {
+                // ошибка уже посчитана в failed
+            }
+            pending.remove(future);
+        }
+    }
+
+    public String report() {
+        return "deleted=" + deleted.sum() +
+                ", notFound=" + notFound.sum() +
+                ", failed=" + failed.sum() +
+                ", pending=" + (pending.size() + deferred.size());
+    }
+
+    public long getDeleted() {
+        return deleted.sum();
+    }
+
+    public long getNotFound() {
+        return notFound.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    private void submit(Supplier<CompletableFuture<Void>> task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        pending.add(future);
+        future.whenComplete((ignored, error) -> pending.remove(future));
+        waiting.add(() -> {
+            CompletableFuture<Void> started;
+            try {
+                started = task.get();
+            } catch (RuntimeException e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            started.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    failed.increment();
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(null);
+                }
+                running.decrementAndGet();
+                startWaiting();
+            });
+        });
+        startWaiting();
+    }
+
+    // запускает ожидающие задачи, пока в полёте меньше parallelism
+    private void startWaiting() {
+        while (!waiting.isEmpty()) {
+            int current = running.get();
+            if (current >= parallelism) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = waiting.poll();
+            if (next == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            next.run();
+        }
+    }
+
+    private CompletableFuture<Void> deleteById(String id) {
+        return withRetries(() -> client.deleteCourier(id).thenApply(response -> {
+            int status = response.statusCode();
+            if (status == HttpStatus.SC_OK) {
+                deleted.increment();
+                return id;
+            }
+            if (status == HttpStatus.SC_NOT_FOUND) {
+                notFound.increment();
+                return id;
+            }
+            throw new IllegalStateException("DELETE " + Endpoints.COURIER + "/" + id + " вернул " + status);
+        }), 0).thenApply(ignored -> null);
+    }
+
+    private CompletableFuture<String> findId(String login, String password) {
+        return client.login(new LoginRequest(login, password)).thenApply(response -> {
+            if (response.statusCode() == HttpStatus.SC_NOT_FOUND) {
+                return null;
+            }
+            if (response.statusCode() != HttpStatus.SC_OK) {
+                throw new IllegalStateException("Логин " + login + " для удаления вернул " + response.statusCode());
+            }
+            return response.as(CourierIdResponse.class).getId().toString();
+        });
+    }
+
+    private <T> CompletableFuture<T> withRetries(Supplier<CompletableFuture<T>> action, int attempt) {
+        CompletableFuture<T> started;
+        try {
+            started = action.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        return started.handle((value, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            if (attempt >= retries) {
+                return CompletableFuture.<T>failedFuture(error instanceof CompletionException ? error.getCause() : error);
+            }
+            Executor later = CompletableFuture.delayedExecutor(200L << attempt, TimeUnit.MILLISECONDS);
+            return CompletableFuture.supplyAsync(() -> null, later)
+                    .thenCompose(ignored -> withRetries(action, attempt + 1));
+        }).thenCompose(future -> future);
+    }
+
+    private static final class Holder {
+        private static final CleanupQueue INSTANCE = create();
+
+        private static CleanupQueue create() {
+            CleanupQueue queue = new CleanupQueue(AsyncScooterClient.shared(), CourierJournal.shared(),
+                    Integer.getInteger("cleanup.parallelism", 32),
+                    Integer.getInteger("cleanup.retries", 3));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    queue.drain(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    if (queue.getFailed() == 0) {
+                        queue.journal.discard();
+                    }
+                } catch (TimeoutException e) {
+                    System.out.println(e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                System.out.println("Courier cleanup: " + queue.report());
+            }, "courier-cleanup-drain"));
+            return queue;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package fixtures;
+
+import cassette.CassetteMode;
+import data.TestData;
+import pojo.Endpoints;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Журнал курьеров прогона: run-history/couriers/<runId>-<pid>.journal, первая строка "@ адрес стенда",
+// затем "+ логин пароль" на каждого созданного курьера и "- логин" после удаления. Пока процесс жив,
+// он держит FileLock на своём журнале: журнал без блокировки остался от завершённого или убитого прогона,
+// и его неудалённые курьеры — сироты для CourierSweeper того же стенда. Каждая строка сразу уходит в ОС,
+// поэтому переживает kill процесса.
+public class CourierJournal {
+    static final String SUFFIX = ".journal";
+    static final String CREATED = "+";
+    static final String DELETED = "-";
+    static final String BACKEND = "@";
+    static final String SEPARATOR = "\t";
+
+    private static final CourierJournal DISABLED = new CourierJournal(null, null);
+
+    private final Path file;
+    private final FileChannel channel;
+    private CourierJournal(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    public static CourierJournal shared() {
+        return Holder.INSTANCE;
+    }
+
+    public static CourierJournal disabled() {
+        return DISABLED;
+    }
+
+    public static Path directory() {
+        return Paths.get(System.getProperty("courier.journal.dir", "run-history/couriers"));
+    }
+
+    static CourierJournal open(Path dir, String backend) {
+        try {
+            Files.createDirectories(dir);
+            Path file = dir.resolve(TestData.runId() + "-" + ProcessHandle.current().pid() + SUFFIX);
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            // блокировка живёт, пока открыт канал
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                channel.close();
+                throw new IllegalStateException("Журнал курьеров " + file + " занят другим процессом");
+            }
+            CourierJournal journal = new CourierJournal(file, channel);
+            if (channel.size() == 0) {
+                journal.append(BACKEND + SEPARATOR + backend + "\n");
+            }
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void created(String login, String password) {
+        if (login == null || password == null || login.contains(SEPARATOR) || password.contains(SEPARATOR)) {
+            return;
+        }
+        append(CREATED + SEPARATOR + login + SEPARATOR + password + "\n");
+    }
+
+    public void deleted(String login) {
+        if (login == null) {
+            return;
+        }
+        append(DELETED + SEPARATOR + login + "\n");
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // все курьеры прогона удалены: журнал больше не нужен ни прогону, ни уборке
+    public synchronized void discard() {
+        if (channel == null || !channel.isOpen()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized void append(String line) {
+        if (channel == null || !channel.isOpen()) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Holder {
+        private static final CourierJournal INSTANCE = create();
+
+        private static CourierJournal create() {
+            // курьеры встроенного стенда живут только в этом процессе, а в replay ответы о создании
+            // приходят из кассеты: ни журнал, ни уборка здесь не нужны, а уборка ушла бы мимо кассеты
+            if (!Boolean.parseBoolean(System.getProperty("courier.journal", "true"))
+                    || Boolean.getBoolean("scooter.stub")
+                    || CassetteMode.current() == CassetteMode.REPLAY) {
+                return DISABLED;
+            }
+            String backend = Endpoints.baseUri();
+            CourierJournal journal = open(directory(), backend);
+            // свой журнал уже заблокирован, поэтому уборка видит только журналы завершившихся прогонов
+            if (Boolean.parseBoolean(System.getProperty("courier.sweepOnStart", "true"))) {
+                Thread sweeper = new Thread(() -> System.out.println("Courier sweep: "
+                        + CourierSweeper.sweep(directory(), backend)), "courier-sweeper");
+                sweeper.setDaemon(true);
+                sweeper.start();
+            }
+            return journal;
+        }
+    }
+}
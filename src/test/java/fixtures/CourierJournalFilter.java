@@ -0,0 +1,41 @@
+package fixtures;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.Endpoints;
+import pojo.LoginRequest;
+
+import java.nio.charset.StandardCharsets;
+
+// Записывает в CourierJournal каждого курьера, которого стенд создал через RestAssured,
+// до того как тест успеет упасть и не зарегистрировать удаление
+public class CourierJournalFilter implements Filter {
+    private static final Gson GSON = new Gson();
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.statusCode() == HttpStatus.SC_CREATED && "POST".equals(requestSpec.getMethod())
+                && Endpoints.COURIER.equals(requestSpec.getDerivedPath())) {
+            Object body = requestSpec.getBody();
+            String raw = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : String.valueOf(body);
+            try {
+                LoginRequest courier = GSON.fromJson(raw, LoginRequest.class);
+                if (courier != null) {
+                    CourierJournal.shared().created(courier.getLogin(), courier.getPassword());
+                }
+            } catch (JsonParseException ignored) {
+                // не JSON — не наш курьер
+            }
+        }
+        return response;
+    }
+}
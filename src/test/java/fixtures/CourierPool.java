@@ -0,0 +1,126 @@
+package fixtures;
+
+import client.AsyncScooterClient;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.Courier;
+import pojo.CourierIdResponse;
+import pojo.LoginRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Пул заранее созданных курьеров для тестов, которые курьера только читают (логин и его негативные случаи).
+// Курьеры создаются одной параллельной пачкой при первом обращении и удаляются очередью CleanupQueue в конце прогона.
+// Ошибка создания запоминается: каждый следующий shared() бросает её же, а уже созданные курьеры всё равно
+// уходят в очередь удаления.
+public class CourierPool {
+    private static final long LEASE_TIMEOUT_SECONDS = 60;
+    private static final AtomicReference<CompletableFuture<CourierPool>> SHARED = new AtomicReference<>();
+
+    private final List<PooledCourier> couriers;
+    private final BlockingQueue<PooledCourier> available;
+
+    public CourierPool(int size) {
+        couriers = provision(size);
+        available = new LinkedBlockingQueue<>(couriers);
+    }
+
+    public static CourierPool shared() {
+        CompletableFuture<CourierPool> pool = SHARED.get();
+        if (pool == null) {
+            CompletableFuture<CourierPool> created = new CompletableFuture<>();
+            if (SHARED.compareAndSet(null, created)) {
+                try {
+                    created.complete(new CourierPool(Integer.getInteger("courier.pool.size", 4)));
+                } catch (RuntimeException | Error e) {
+                    created.completeExceptionally(e);
+                }
+            }
+            pool = SHARED.get();
+        }
+        try {
+            return pool.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Пул курьеров не создан", e.getCause());
+        }
+    }
+
+    public PooledCourier lease() {
+        try {
+            PooledCourier courier = available.poll(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (courier == null) {
+                throw new IllegalStateException("Нет свободных курьеров в пуле за " + LEASE_TIMEOUT_SECONDS + " c");
+            }
+            return courier;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ожидание курьера из пула прервано", e);
+        }
+    }
+
+    public void release(PooledCourier courier) {
+        if (courier != null) {
+            available.offer(courier);
+        }
+    }
+
+    public int size() {
+        return couriers.size();
+    }
+
+    // все курьеры создаются одновременно: запросы уходят без ожидания, потоки не блокируются.
+    // Каждый созданный курьер сразу попадает в CleanupQueue, даже если пул в целом не собрался.
+    private static List<PooledCourier> provision(int size) {
+        AsyncScooterClient client = AsyncScooterClient.shared();
+        List<CompletableFuture<PooledCourier>> futures = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            futures.add(createCourier(client));
+        }
+        List<PooledCourier> result = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<PooledCourier> future : futures) {
+            try {
+                result.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Не удалось создать курьеров пула: создано " + result.size() + " из " + size,
+                    failure);
+        }
+        return result;
+    }
+
+    private static CompletableFuture<PooledCourier> createCourier(AsyncScooterClient client) {
+        Courier courier = new Courier(Courier.generateRandomLogin(), Courier.generateRandomPassword(),
+                Courier.generateRandomFirstName());
+        return client.createCourier(courier)
+                .thenCompose(created -> {
+                    created.then().statusCode(HttpStatus.SC_CREATED);
+                    return client.login(new LoginRequest(courier.getLogin(), courier.getPassword()))
+                            .thenApply(login -> {
+                                String id = login.then()
+                                        .statusCode(HttpStatus.SC_OK)
+                                        .extract().as(CourierIdResponse.class).getId().toString();
+                                CleanupQueue.shared().defer(courier.getLogin(), id);
+                                return new PooledCourier(courier.getLogin(), courier.getPassword(),
+                                        courier.getFirstName(), id);
+                            })
+                            .whenComplete((pooled, error) -> {
+                                // курьер создан, но id не получен: удаляем по логину
+                                if (error != null) {
+                                    CleanupQueue.shared().registerLogin(courier.getLogin(), courier.getPassword());
+                                }
+                            });
+                });
+    }
+}
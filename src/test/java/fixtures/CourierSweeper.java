@@ -0,0 +1,231 @@
+package fixtures;
+
+import client.AsyncScooterClient;
+import pojo.Endpoints;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+// Уборка курьеров, оставшихся от прерванных прогонов: читает журналы CourierJournal без живого владельца,
+// находит созданных и не удалённых курьеров и удаляет их через CleanupQueue (логин, затем DELETE)
+// не больше courier.sweep.parallelism запросов в полёте. Журнал удаляется, если все его курьеры убраны.
+// Журналы другого стенда (и старые, без строки стенда) не трогаются: там их курьеры дали бы только 404.
+// Запускается в начале каждого прогона в фоне или отдельно: mvn test-compile exec:java -Psweep
+public class CourierSweeper {
+    private static final int PARALLELISM = Integer.getInteger("courier.sweep.parallelism", 16);
+    private static final long TIMEOUT_SECONDS = Long.getLong("courier.sweep.timeoutSeconds", 120);
+
+    private CourierSweeper() {
+    }
+
+    public static void main(String[] args) {
+        Result result = sweep(CourierJournal.directory(), Endpoints.baseUri());
+        System.out.println("Courier sweep: " + result);
+        // встроенный стенд держит не-daemon поток HttpServer, поэтому выходим явно
+        System.exit(result.failed > 0 || result.timedOut ? 1 : 0);
+    }
+
+    public static Result sweep(Path dir, String backend) {
+        long started = System.nanoTime();
+        Result result = new Result();
+        if (!Files.isDirectory(dir)) {
+            return result;
+        }
+        List<Orphaned> journals = new ArrayList<>();
+        try {
+            try (Stream<Path> files = Files.list(dir)) {
+                files.filter(file -> file.getFileName().toString().endsWith(CourierJournal.SUFFIX))
+                        .forEach(file -> {
+                            Orphaned orphaned = lockIfOrphaned(file);
+                            if (orphaned == null) {
+                                return;
+                            }
+                            if (backend.equals(orphaned.backend)) {
+                                journals.add(orphaned);
+                            } else {
+                                result.otherBackend++;
+                                orphaned.close();
+                            }
+                        });
+            }
+            result.journals = journals.size();
+            if (journals.isEmpty()) {
+                return result;
+            }
+
+            // удаления уборки не пишутся ни в чей журнал: её собственный журнал не нужен
+            CleanupQueue queue = new CleanupQueue(AsyncScooterClient.shared(), CourierJournal.disabled(),
+                    PARALLELISM, Integer.getInteger("cleanup.retries", 3));
+            for (Orphaned journal : journals) {
+                journal.leftovers.forEach(queue::registerLogin);
+                result.leftovers += journal.leftovers.size();
+            }
+            try {
+                queue.drain(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                result.timedOut = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.timedOut = true;
+            }
+            result.deleted = queue.getDeleted();
+            result.notFound = queue.getNotFound();
+            result.failed = queue.getFailed();
+            // после сбоев журнал остаётся целиком: уже удалённые курьеры в следующий раз дадут только 404
+            if (result.failed == 0 && !result.timedOut) {
+                for (Orphaned journal : journals) {
+                    Files.deleteIfExists(journal.file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            journals.forEach(Orphaned::close);
+            result.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        }
+        return result;
+    }
+
+    private static Orphaned lockIfOrphaned(Path file) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                // журнал идущего прогона
+                channel.close();
+                return null;
+            }
+            return read(file, channel);
+        } catch (OverlappingFileLockException e) {
+            // журнал этой же JVM
+            closeQuietly(channel);
+            return null;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Orphaned read(Path file, FileChannel channel) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate((int) channel.size());
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, bytes.position()) < 0) {
+                break;
+            }
+        }
+        String backend = null;
+        Map<String, String> couriers = new LinkedHashMap<>();
+        for (String line : new String(bytes.array(), StandardCharsets.UTF_8).split("\n")) {
+            String[] fields = line.split(CourierJournal.SEPARATOR, -1);
+            if (fields.length == 2 && CourierJournal.BACKEND.equals(fields[0])) {
+                backend = fields[1];
+            } else if (fields.length == 3 && CourierJournal.CREATED.equals(fields[0])) {
+                couriers.put(fields[1], fields[2]);
+            } else if (fields.length == 2 && CourierJournal.DELETED.equals(fields[0])) {
+                couriers.remove(fields[1]);
+            }
+            // недописанная последняя строка убитого процесса не подходит ни под один формат
+        }
+        return new Orphaned(file, channel, backend, couriers);
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // закрытие канала снимает и блокировку
+        }
+    }
+
+    private static final class Orphaned {
+        private final Path file;
+        private final FileChannel channel;
+        private final String backend;
+        private final Map<String, String> leftovers;
+
+        private Orphaned(Path file, FileChannel channel, String backend, Map<String, String> leftovers) {
+            this.file = file;
+            this.channel = channel;
+            this.backend = backend;
+            this.leftovers = leftovers;
+        }
+
+        private void close() {
+            closeQuietly(channel);
+        }
+    }
+
+    public static final class Result {
+        private int journals;
+        private int otherBackend;
+        private int leftovers;
+        private long deleted;
+        private long notFound;
+        private long failed;
+        private boolean timedOut;
+        private long elapsedMillis;
+
+        public int getJournals() {
+            return journals;
+        }
+
+        public int getOtherBackend() {
+            return otherBackend;
+        }
+
+        public int getLeftovers() {
+            return leftovers;
+        }
+
+        public long getDeleted() {
+            return deleted;
+        }
+
+        public long getNotFound() {
+            return notFound;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "journals=" + journals +
+                    ", otherBackend=" + otherBackend +
+                    ", leftovers=" + leftovers +
+                    ", reclaimed=" + deleted +
+                    ", alreadyGone=" + notFound +
+                    ", failed=" + failed +
+                    (timedOut ? ", timedOut" : "") +
+                    ", elapsed=" + elapsedMillis + "ms";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package fixtures;
+
+import pojo.Courier;
+import pojo.LoginRequest;
+
+// Курьер из пула: уже создан на стенде и известен его id. Тесты получают копии запросов и не меняют сам курьер
+public class PooledCourier {
+    private final String login;
+    private final String password;
+    private final String firstName;
+    private final String id;
+
+    public PooledCourier(String login, String password, String firstName, String id) {
+        this.login = login;
+        this.password = password;
+        this.firstName = firstName;
+        this.id = id;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Courier toCourier() {
+        return new Courier(login, password, firstName);
+    }
+
+    public LoginRequest toLoginRequest() {
+        return new LoginRequest(login, password);
+    }
+
+    @Override
+    public String toString() {
+        return "PooledCourier{" +
+                "login='" + login + '\'' +
+                ", id='" + id + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package load;
+
+import client.AsyncScooterClient;
+import client.Bodies;
+import fixtures.CleanupQueue;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.Courier;
+import pojo.Endpoints;
+
+import java.net.http.HttpRequest;
+
+// Сценарий CourierLoginTests.courierCanLogIn: один курьер создаётся заранее, под нагрузкой идёт только логин
+public class CourierLoginScenario implements Scenario {
+    private final AsyncScooterClient client;
+    private final Courier courier;
+    private final byte[] login;
+
+    public CourierLoginScenario(AsyncScooterClient client) {
+        this.client = client;
+        this.courier = new Courier(Courier.generateRandomLogin(), Courier.generateRandomPassword(),
+                Courier.generateRandomFirstName());
+        client.createCourier(courier).join()
+                .then()
+                .statusCode(HttpStatus.SC_CREATED);
+        this.login = Bodies.LOGIN.with(courier.getLogin(), courier.getPassword());
+    }
+
+    @Override
+    public String name() {
+        return "POST " + Endpoints.COURIER_LOGIN;
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        return client.request("POST", Endpoints.COURIER_LOGIN, login);
+    }
+
+    @Override
+    public int expectedStatus() {
+        return HttpStatus.SC_OK;
+    }
+
+    @Override
+    public void close() {
+        CleanupQueue.shared().registerLogin(courier.getLogin(), courier.getPassword());
+    }
+}
@@ -0,0 +1,184 @@
+package load;
+
+import client.AsyncScooterClient;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import pojo.Endpoints;
+
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Нагрузка сценариями тестов на AsyncScooterClient: несколько потоков держат тысячи запросов в полёте.
+// Открытая модель (load.rate > 0): запросы уходят по расписанию, задержка считается от запланированного момента,
+// поэтому гистограмма уже скорректирована на coordinated omission.
+// Закрытая модель (load.concurrency): N цепочек запрос-ответ без пауз, поправка считается по медиане.
+public class LoadGenerator {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Scenario scenario;
+    private final AsyncScooterClient client;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private volatile Histogram latency = newHistogram();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public LoadGenerator(Scenario scenario, AsyncScooterClient client, int maxInFlight) {
+        this.scenario = scenario;
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUri = Endpoints.baseUri();
+        double rate = Double.parseDouble(System.getProperty("load.rate", "0"));
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+
+        ExecutorService executor = Executors.newFixedThreadPool(Integer.getInteger("load.threads", 4), daemon());
+        AsyncScooterClient client = new AsyncScooterClient(AsyncScooterClient.newHttpClient(executor), baseUri);
+
+        int exitCode = 0;
+        try (Scenario scenario = scenario(System.getProperty("load.scenario", "order"), client)) {
+            LoadGenerator generator = new LoadGenerator(scenario, client, Integer.getInteger("load.maxInFlight", 10_000));
+            System.out.println("Load: " + scenario.name() + " against " + baseUri
+                    + (rate > 0 ? " at " + rate + " req/s" : " with concurrency " + concurrency)
+                    + " for " + duration.getSeconds() + " s (warmup " + warmup.getSeconds() + " s)");
+            if (!warmup.isZero()) {
+                generator.run(rate, concurrency, warmup);
+                generator.reset();
+            }
+            LoadResult result = generator.run(rate, concurrency, duration);
+            result.print(System.out);
+            String hgrm = System.getProperty("load.hgrmFile");
+            if (hgrm != null) {
+                try (PrintStream out = new PrintStream(new FileOutputStream(hgrm))) {
+                    result.getCorrected().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            if (result.getFailed() > 0) {
+                exitCode = 1;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // встроенный стенд держит не-daemon поток HttpServer, поэтому выходим явно
+        System.exit(exitCode);
+    }
+
+    static Scenario scenario(String name, AsyncScooterClient client) {
+        switch (name) {
+            case "order":
+                return new OrderScenario(client);
+            case "login":
+                return new CourierLoginScenario(client);
+            default:
+                throw new IllegalArgumentException("Неизвестный сценарий load.scenario=" + name + " (order, login)");
+        }
+    }
+
+    public LoadResult run(double rate, int concurrency, Duration duration) throws InterruptedException {
+        long started = System.nanoTime();
+        boolean openModel = rate > 0;
+        if (openModel) {
+            runAtRate(rate, duration);
+        } else {
+            runClosed(concurrency, duration);
+        }
+        if (!inFlight.tryAcquire(maxInFlight, 1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Запросы не завершились за минуту после окончания нагрузки");
+        }
+        inFlight.release(maxInFlight);
+        long elapsed = System.nanoTime() - started;
+
+        Histogram corrected = openModel
+                ? latency.copy()
+                : latency.copyCorrectedForCoordinatedOmission(Math.max(1, latency.getValueAtPercentile(50)));
+        return new LoadResult(scenario.name(), openModel, elapsed, succeeded.sum(), failed.sum(), latency.copy(), corrected);
+    }
+
+    public void reset() {
+        latency = newHistogram();
+        succeeded.reset();
+        failed.reset();
+    }
+
+    private void runAtRate(double rate, Duration duration) throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // если упёрлись в лимит запросов в полёте, ожидание попадёт в задержку: отсчёт идёт от intended
+            inFlight.acquire();
+            send(intended, null);
+        }
+    }
+
+    private void runClosed(int concurrency, Duration duration) throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            loop(end, done);
+        }
+        done.await();
+    }
+
+    private void loop(long end, CountDownLatch done) {
+        if (System.nanoTime() >= end) {
+            done.countDown();
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        send(System.nanoTime(), () -> loop(end, done));
+    }
+
+    private void send(long startNanos, Runnable next) {
+        client.status(scenario.nextRequest())
+                .whenComplete((status, error) -> {
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+                    latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    if (error == null && status == scenario.expectedStatus()) {
+                        succeeded.increment();
+                    } else {
+                        failed.increment();
+                    }
+                    inFlight.release();
+                    if (next != null) {
+                        next.run();
+                    }
+                });
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private static ThreadFactory daemon() {
+        AtomicInteger number = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-http-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
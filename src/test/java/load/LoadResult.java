@@ -0,0 +1,75 @@
+package load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Итог прогона нагрузки: пропускная способность и перцентили задержки в миллисекундах
+public class LoadResult {
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private final String scenario;
+    private final boolean openModel;
+    private final long elapsedNanos;
+    private final long succeeded;
+    private final long failed;
+    private final Histogram raw;
+    private final Histogram corrected;
+
+    public LoadResult(String scenario, boolean openModel, long elapsedNanos, long succeeded, long failed,
+                      Histogram raw, Histogram corrected) {
+        this.scenario = scenario;
+        this.openModel = openModel;
+        this.elapsedNanos = elapsedNanos;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.raw = raw;
+        this.corrected = corrected;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public double getThroughput() {
+        return (succeeded + failed) / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public Histogram getRaw() {
+        return raw;
+    }
+
+    public Histogram getCorrected() {
+        return corrected;
+    }
+
+    public double percentileMillis(double percentile) {
+        return corrected.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%s (%s model)%n", scenario, openModel ? "open" : "closed");
+        out.printf(Locale.ROOT, "  requests: %d ok, %d failed, %.1f req/s%n", succeeded, failed, getThroughput());
+        StringBuilder line = new StringBuilder("  latency ms (CO-corrected):");
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(Locale.ROOT, " p%s=%.2f", format(percentile), percentileMillis(percentile)));
+        }
+        line.append(String.format(Locale.ROOT, " max=%.2f", corrected.getMaxValue() / 1000.0));
+        out.println(line);
+        if (!openModel) {
+            out.printf(Locale.ROOT, "  latency ms (raw): p50=%.2f p99=%.2f max=%.2f%n",
+                    raw.getValueAtPercentile(50) / 1000.0, raw.getValueAtPercentile(99) / 1000.0,
+                    raw.getMaxValue() / 1000.0);
+        }
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
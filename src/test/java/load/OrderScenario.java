@@ -0,0 +1,43 @@
+package load;
+
+import client.AsyncScooterClient;
+import client.Bodies;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.Endpoints;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Сценарий OrderTests.createOrderWithColor: POST /api/v1/orders по кругу со всеми наборами цветов.
+// Тела для каждого набора собраны заранее, под нагрузкой запрос только ссылается на готовый массив.
+public class OrderScenario implements Scenario {
+    private static final List<byte[]> BODIES = List.of(
+            Bodies.ORDER.with(List.of("BLACK")),
+            Bodies.ORDER.with(List.of("GREY")),
+            Bodies.ORDER.with(List.of("BLACK", "GREY")),
+            Bodies.ORDER.with(List.of()));
+
+    private final AsyncScooterClient client;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public OrderScenario(AsyncScooterClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public String name() {
+        return "POST " + Endpoints.ORDERS;
+    }
+
+    @Override
+    public HttpRequest nextRequest() {
+        byte[] body = BODIES.get((int) (sequence.getAndIncrement() % BODIES.size()));
+        return client.request("POST", Endpoints.ORDERS, body);
+    }
+
+    @Override
+    public int expectedStatus() {
+        return HttpStatus.SC_CREATED;
+    }
+}
@@ -0,0 +1,17 @@
+package load;
+
+import java.net.http.HttpRequest;
+
+// Один шаг нагрузочного сценария: какой запрос отправить и какой статус считать успехом
+public interface Scenario extends AutoCloseable {
+
+    String name();
+
+    HttpRequest nextRequest();
+
+    int expectedStatus();
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,97 @@
+package matchers;
+
+import org.hamcrest.FeatureMatcher;
+import org.hamcrest.Matcher;
+import pojo.CourierIdResponse;
+import pojo.ErrorResponse;
+import pojo.OkResponse;
+import pojo.Order;
+import pojo.OrderTrackResponse;
+import pojo.OrdersPage;
+import pojo.PageInfo;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+// Matchers для типизированных ответов: assertThat(response.as(ErrorResponse.class), hasMessage("..."))
+public final class ResponseMatchers {
+
+    private ResponseMatchers() {
+    }
+
+    public static Matcher<OkResponse> isOk() {
+        return new FeatureMatcher<OkResponse, Boolean>(equalTo(true), "ответ с ok", "ok") {
+            @Override
+            protected Boolean featureValueOf(OkResponse actual) {
+                return actual.getOk();
+            }
+        };
+    }
+
+    public static Matcher<CourierIdResponse> hasCourierId() {
+        return new FeatureMatcher<CourierIdResponse, Integer>(greaterThan(0), "ответ с id курьера", "id") {
+            @Override
+            protected Integer featureValueOf(CourierIdResponse actual) {
+                return actual.getId();
+            }
+        };
+    }
+
+    public static Matcher<OrderTrackResponse> hasTrack() {
+        return new FeatureMatcher<OrderTrackResponse, Integer>(greaterThan(0), "ответ с трек-номером", "track") {
+            @Override
+            protected Integer featureValueOf(OrderTrackResponse actual) {
+                return actual.getTrack();
+            }
+        };
+    }
+
+    public static Matcher<ErrorResponse> hasMessage(String message) {
+        return new FeatureMatcher<ErrorResponse, String>(equalTo(message), "ошибка с message", "message") {
+            @Override
+            protected String featureValueOf(ErrorResponse actual) {
+                return actual.getMessage();
+            }
+        };
+    }
+
+    public static Matcher<OrdersPage> hasOrders(Matcher<? super List<Order>> orders) {
+        return new FeatureMatcher<OrdersPage, List<Order>>(orders, "страница заказов с orders", "orders") {
+            @Override
+            protected List<Order> featureValueOf(OrdersPage actual) {
+                return actual.getOrders();
+            }
+        };
+    }
+
+    public static Matcher<OrdersPage> hasPageInfo(Matcher<? super PageInfo> pageInfo) {
+        return new FeatureMatcher<OrdersPage, PageInfo>(pageInfo, "страница заказов с pageInfo", "pageInfo") {
+            @Override
+            protected PageInfo featureValueOf(OrdersPage actual) {
+                return actual.getPageInfo();
+            }
+        };
+    }
+
+    public static Matcher<PageInfo> page(int page, int limit) {
+        return new FeatureMatcher<PageInfo, List<Integer>>(equalTo(List.of(page, limit)), "pageInfo [page, limit]",
+                "[page, limit]") {
+            @Override
+            protected List<Integer> featureValueOf(PageInfo actual) {
+                return Arrays.asList(actual.getPage(), actual.getLimit());
+            }
+        };
+    }
+
+    public static Matcher<Order> atStation(String station) {
+        return new FeatureMatcher<Order, String>(equalTo(station), "заказ у станции", "metroStation") {
+            @Override
+            protected String featureValueOf(Order actual) {
+                return actual.getMetroStation();
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package matrix;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Декларативная матрица полей тела запроса: для каждого поля список вариантов,
+// cases() строит кейс на каждое сочетание (декартово произведение) в порядке объявления полей.
+public final class CaseMatrix<B> {
+    private final Supplier<B> factory;
+    private final Map<String, Field<B>> fields = new LinkedHashMap<>();
+
+    private CaseMatrix(Supplier<B> factory) {
+        this.factory = factory;
+    }
+
+    public static <B> CaseMatrix<B> of(Supplier<B> factory) {
+        return new CaseMatrix<>(factory);
+    }
+
+    public CaseMatrix<B> field(String name, BiConsumer<B, String> setter, Variant... variants) {
+        fields.put(name, new Field<>(setter, List.of(variants)));
+        return this;
+    }
+
+    public List<MatrixCase<B>> cases(Function<Combination<B>, MatrixCase<B>> toCase) {
+        List<Map<String, Variant>> combinations = new ArrayList<>();
+        combinations.add(new LinkedHashMap<>());
+        for (Map.Entry<String, Field<B>> field : fields.entrySet()) {
+            List<Map<String, Variant>> next = new ArrayList<>();
+            for (Map<String, Variant> partial : combinations) {
+                for (Variant variant : field.getValue().variants) {
+                    Map<String, Variant> combination = new LinkedHashMap<>(partial);
+                    combination.put(field.getKey(), variant);
+                    next.add(combination);
+                }
+            }
+            combinations = next;
+        }
+        List<MatrixCase<B>> cases = new ArrayList<>();
+        for (Map<String, Variant> combination : combinations) {
+            cases.add(toCase.apply(new Combination<>(this, combination)));
+        }
+        return cases;
+    }
+
+    public static final class Combination<B> {
+        private final CaseMatrix<B> matrix;
+        private final Map<String, Variant> variants;
+
+        private Combination(CaseMatrix<B> matrix, Map<String, Variant> variants) {
+            this.matrix = matrix;
+            this.variants = Collections.unmodifiableMap(variants);
+        }
+
+        public Variant get(String field) {
+            return variants.get(field);
+        }
+
+        public boolean anyBlank() {
+            return variants.values().stream().anyMatch(Variant::isBlank);
+        }
+
+        public boolean all(String variantName) {
+            return variants.values().stream().allMatch(variant -> variant.getName().equals(variantName));
+        }
+
+        // новое тело на каждый вызов: значения вариантов вычисляются заново
+        public B body() {
+            B body = matrix.factory.get();
+            variants.forEach((field, variant) -> matrix.fields.get(field).setter.accept(body, variant.value()));
+            return body;
+        }
+
+        public String name() {
+            StringBuilder name = new StringBuilder();
+            variants.forEach((field, variant) -> {
+                if (name.length() > 0) {
+                    name.append(", ");
+                }
+                name.append(field).append('=').append(variant.getName());
+            });
+            return name.toString();
+        }
+    }
+
+    private static final class Field<B> {
+        private final BiConsumer<B, String> setter;
+        private final List<Variant> variants;
+
+        private Field(BiConsumer<B, String> setter, List<Variant> variants) {
+            this.setter = setter;
+            this.variants = variants;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package matrix;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Публичный статический метод класса под MatrixRunner, который возвращает List<MatrixCase<?>>
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Matrix {
+}
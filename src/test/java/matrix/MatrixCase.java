@@ -0,0 +1,67 @@
+package matrix;
+
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Один кейс матрицы: как собрать тело, как отправить его асинхронно и что проверить в ответе
+public final class MatrixCase<B> {
+    private final String name;
+    private final Supplier<B> body;
+    private final Function<B, CompletableFuture<Response>> send;
+    private final Consumer<Response> check;
+
+    private MatrixCase(String name, Supplier<B> body, Function<B, CompletableFuture<Response>> send,
+                       Consumer<Response> check) {
+        this.name = name;
+        this.body = body;
+        this.send = send;
+        this.check = check;
+    }
+
+    public static <B> MatrixCase<B> of(CaseMatrix.Combination<B> combination,
+                                       Function<B, CompletableFuture<Response>> send,
+                                       Consumer<Response> check) {
+        return new MatrixCase<>(combination.name(), combination::body, send, check);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // ошибка сборки тела или отправки относится к этому кейсу, а не ко всей пачке
+    Sent start() {
+        B request = null;
+        try {
+            request = body.get();
+            return new Sent(request, send.apply(request));
+        } catch (RuntimeException e) {
+            return new Sent(request, CompletableFuture.failedFuture(e));
+        }
+    }
+
+    void check(Response response) {
+        check.accept(response);
+    }
+
+    static final class Sent {
+        private final Object body;
+        private final CompletableFuture<Response> response;
+
+        private Sent(Object body, CompletableFuture<Response> response) {
+            this.body = body;
+            this.response = response;
+        }
+
+        Object getBody() {
+            return body;
+        }
+
+        CompletableFuture<Response> getResponse() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package matrix;
+
+import com.google.gson.Gson;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+// Раннер для матриц кейсов из методов @Matrix. Все кейсы класса отправляются одной пачкой при первом
+// запуске кейса (асинхронно, без потока на запрос), а дальше каждый кейс отдельным тестом ждёт свой
+// ответ и проверяет его — в JUnit и Allure у каждого кейса свой результат с телом запроса и ответом.
+// @BeforeClass/@AfterClass класса работают как обычно и дают общие для всей матрицы фикстуры.
+public class MatrixRunner extends ParentRunner<MatrixCase<?>> {
+    private static final Gson GSON = new Gson();
+
+    private final List<MatrixCase<?>> cases = new ArrayList<>();
+    private final Map<MatrixCase<?>, Description> descriptions = new IdentityHashMap<>();
+    private final List<Filter> filters = new ArrayList<>();
+    private Map<MatrixCase<?>, MatrixCase.Sent> batch;
+
+    public MatrixRunner(Class<?> testClass) throws InitializationError {
+        super(testClass);
+        List<FrameworkMethod> methods = getTestClass().getAnnotatedMethods(Matrix.class);
+        if (methods.isEmpty()) {
+            throw new InitializationError("В классе " + testClass.getName() + " нет методов @Matrix");
+        }
+        for (FrameworkMethod method : methods) {
+            if (!Modifier.isStatic(method.getMethod().getModifiers())) {
+                throw new InitializationError("Метод @Matrix " + method.getName() + " должен быть статическим");
+            }
+            try {
+                for (Object matrixCase : (List<?>) method.invokeExplosively(null)) {
+                    MatrixCase<?> typed = (MatrixCase<?>) matrixCase;
+                    cases.add(typed);
+                    descriptions.put(typed, Description.createTestDescription(testClass,
+                            method.getName() + "[" + typed.getName() + "]"));
+                }
+            } catch (Throwable e) {
+                throw new InitializationError(e);
+            }
+        }
+    }
+
+    @Override
+    protected List<MatrixCase<?>> getChildren() {
+        return cases;
+    }
+
+    @Override
+    protected Description describeChild(MatrixCase<?> child) {
+        return descriptions.get(child);
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        super.filter(filter);
+        filters.add(filter);
+    }
+
+    @Override
+    protected void runChild(MatrixCase<?> child, RunNotifier notifier) {
+        MatrixCase.Sent sent = sendBatch().get(child);
+        runLeaf(new Statement() {
+            @Override
+            public void evaluate() {
+                Response response;
+                try {
+                    response = sent.getResponse().join();
+                } catch (CompletionException e) {
+                    throw new IllegalStateException("Запрос кейса " + child.getName() + " не выполнен", e.getCause());
+                }
+                Allure.addAttachment("Запрос", "application/json", GSON.toJson(sent.getBody()));
+                Allure.addAttachment("Ответ " + response.statusCode(), "application/json", response.asString());
+                child.check(response);
+            }
+        }, describeChild(child), notifier);
+    }
+
+    // к этому моменту @BeforeClass уже отработал, поэтому тела могут ссылаться на фикстуры класса
+    private synchronized Map<MatrixCase<?>, MatrixCase.Sent> sendBatch() {
+        if (batch == null) {
+            batch = new IdentityHashMap<>();
+            for (MatrixCase<?> matrixCase : cases) {
+                if (filters.stream().allMatch(filter -> filter.shouldRun(describeChild(matrixCase)))) {
+                    batch.put(matrixCase, matrixCase.start());
+                }
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,59 @@
+package matrix;
+
+import java.util.function.Supplier;
+
+// Значение одного поля в матрице. Значение берётся при отправке кейса, поэтому может зависеть
+// от фикстур, поднятых в @BeforeClass, и быть уникальным для каждого кейса.
+public final class Variant {
+    private static final String UNICODE_PREFIX = "Курьер_ü_";
+
+    private final String name;
+    private final Supplier<String> value;
+    private final boolean blank;
+
+    private Variant(String name, Supplier<String> value, boolean blank) {
+        this.name = name;
+        this.value = value;
+        this.blank = blank;
+    }
+
+    public static Variant of(String name, Supplier<String> value) {
+        return new Variant(name, value, false);
+    }
+
+    // поле не попадает в JSON: Gson не пишет null
+    public static Variant missing() {
+        return new Variant("missing", () -> null, true);
+    }
+
+    public static Variant empty() {
+        return new Variant("empty", () -> "", true);
+    }
+
+    public static Variant unicode(Supplier<String> base) {
+        return new Variant("unicode", () -> UNICODE_PREFIX + base.get(), false);
+    }
+
+    public static Variant oversized(Supplier<String> base, int length) {
+        return new Variant("oversized" + length, () -> {
+            StringBuilder value = new StringBuilder(base.get());
+            while (value.length() < length) {
+                value.append('x');
+            }
+            return value.toString();
+        }, false);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String value() {
+        return value.get();
+    }
+
+    // пустое или отсутствующее значение: стенд отвечает на такие поля 400
+    public boolean isBlank() {
+        return blank;
+    }
+}
@@ -0,0 +1,20 @@
+package perf;
+
+import java.util.regex.Pattern;
+
+// Ключ ручки для статистики: метод и путь без query, id в пути заменён на {id}
+public final class EndpointKey {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/(\\d+|null)(?=/|$)");
+
+    private EndpointKey() {
+    }
+
+    public static String of(String method, String path) {
+        String withoutQuery = path;
+        int query = withoutQuery.indexOf('?');
+        if (query >= 0) {
+            withoutQuery = withoutQuery.substring(0, query);
+        }
+        return method.toUpperCase() + " " + ID_SEGMENT.matcher(withoutQuery).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,23 @@
+package perf;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Бюджет задержки ручки, например @LatencyBudget(method = "POST", path = Endpoints.ORDERS, millis = 300).
+// Проверяется LatencyBudgetRule после теста по запросам к этой ручке, которые сделал сам тест.
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Repeatable(LatencyBudgets.class)
+public @interface LatencyBudget {
+
+    String method();
+
+    String path();
+
+    double percentile() default 95;
+
+    long millis();
+}
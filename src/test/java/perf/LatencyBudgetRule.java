@@ -0,0 +1,71 @@
+package perf;
+
+import cassette.CassetteFilter;
+import org.HdrHistogram.Histogram;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Проверяет @LatencyBudget класса и метода после теста по запросам, которые сделал сам тест:
+// чужие классы параллельного прогона на результат не влияют. Отключается -Dperf.budgets=false;
+// с ответами из кассеты не проверяется — их время не говорит о стенде.
+public class LatencyBudgetRule implements TestRule {
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                Map<String, Histogram> recorded = LatencyStats.beginTest();
+                try {
+                    base.evaluate();
+                } finally {
+                    LatencyStats.endTest();
+                }
+                if (Boolean.parseBoolean(System.getProperty("perf.budgets", "true")) && CassetteFilter.isLive()) {
+                    check(budgets(description), recorded);
+                }
+            }
+        };
+    }
+
+    private static List<LatencyBudget> budgets(Description description) {
+        List<LatencyBudget> budgets = new ArrayList<>();
+        if (description.getTestClass() != null) {
+            budgets.addAll(List.of(description.getTestClass().getAnnotationsByType(LatencyBudget.class)));
+        }
+        LatencyBudget single = description.getAnnotation(LatencyBudget.class);
+        if (single != null) {
+            budgets.add(single);
+        }
+        LatencyBudgets repeated = description.getAnnotation(LatencyBudgets.class);
+        if (repeated != null) {
+            budgets.addAll(List.of(repeated.value()));
+        }
+        return budgets;
+    }
+
+    private static void check(List<LatencyBudget> budgets, Map<String, Histogram> recorded) {
+        List<String> violations = new ArrayList<>();
+        for (LatencyBudget budget : budgets) {
+            String endpoint = EndpointKey.of(budget.method(), budget.path());
+            Histogram histogram = recorded.get(endpoint);
+            if (histogram == null || histogram.getTotalCount() == 0) {
+                continue;
+            }
+            double actual = histogram.getValueAtPercentile(budget.percentile()) / 1000.0;
+            if (actual > budget.millis()) {
+                violations.add(String.format(Locale.ROOT, "%s p%s = %.1f ms > бюджет %d ms (запросов: %d)",
+                        endpoint, budget.percentile(), actual, budget.millis(), histogram.getTotalCount()));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Превышен бюджет задержки: " + String.join("; ", violations));
+        }
+    }
+}
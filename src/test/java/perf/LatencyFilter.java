@@ -0,0 +1,86 @@
+package perf;
+
+import client.RequestTimer;
+import io.qameta.allure.Allure;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Замер каждого запроса к ручкам стенда: DNS, подключение, первый байт, полное время и размеры тел.
+// Полное время уходит в LatencyStats (для бюджетов и трендов) и событием RequestEvent в JFR,
+// разбивка — вложением в текущий тест Allure.
+// Потоковый фильтр (streamed()) тело не читает: его разбирает вызывающий по мере прихода, он же и пишет
+// полное время в LatencyStats; фильтр меряет только время до заголовков ответа.
+public class LatencyFilter implements Filter {
+    private final boolean streamed;
+
+    public LatencyFilter() {
+        this(false);
+    }
+
+    private LatencyFilter(boolean streamed) {
+        this.streamed = streamed;
+    }
+
+    public static LatencyFilter streamed() {
+        return new LatencyFilter(true);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        RequestTimer timer = RequestTimer.start();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long responseBytes = streamed ? -1 : response.asByteArray().length;
+        long total = timer.elapsedNanos();
+        event.end();
+
+        String endpoint = EndpointKey.of(requestSpec.getMethod(), requestSpec.getDerivedPath());
+        if (!streamed) {
+            LatencyStats.record(endpoint, total);
+        }
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.status = response.statusCode();
+            event.requestBytes = requestBytes(requestSpec);
+            event.responseBytes = responseBytes;
+            event.commit();
+        }
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isPresent()) {
+            Allure.addAttachment("Время " + endpoint, "text/plain", String.format(Locale.ROOT,
+                    "status=%d dns=%.2fms connect=%.2fms ttfb=%.2fms total=%.2fms request=%dB response=%dB",
+                    response.statusCode(),
+                    millis(timer.getDnsNanos()),
+                    millis(timer.getConnectNanos()),
+                    millis(timer.getFirstByteNanos()),
+                    millis(total),
+                    requestBytes(requestSpec),
+                    responseBytes));
+        }
+        return response;
+    }
+
+    private static long requestBytes(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
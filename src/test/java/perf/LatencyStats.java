@@ -0,0 +1,55 @@
+package perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Задержки всех запросов прогона по ручкам, в микросекундах.
+// Первые perf.warmupRequests запросов к каждой ручке не учитываются: в них загрузка классов и холодный JIT.
+// Запросы RestAssured идут в потоке теста, поэтому между beginTest() и endTest() они копятся ещё и
+// в отдельных гистограммах этого потока — по ним LatencyBudgetRule проверяет только свой тест.
+public final class LatencyStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("perf.warmupRequests", 1);
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> SEEN = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, Histogram>> TEST = new ThreadLocal<>();
+
+    private LatencyStats() {
+    }
+
+    public static void record(String endpoint, long nanos) {
+        if (SEEN.computeIfAbsent(endpoint, key -> new AtomicInteger()).getAndIncrement() < WARMUP_REQUESTS) {
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+        HISTOGRAMS.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+        Map<String, Histogram> test = TEST.get();
+        if (test != null) {
+            test.computeIfAbsent(endpoint, key -> new Histogram(HIGHEST_TRACKABLE_MICROS, 3)).recordValue(micros);
+        }
+    }
+
+    // гистограммы по ручкам, в которые до endTest() попадают запросы текущего потока
+    public static Map<String, Histogram> beginTest() {
+        Map<String, Histogram> test = new TreeMap<>();
+        TEST.set(test);
+        return test;
+    }
+
+    public static void endTest() {
+        TEST.remove();
+    }
+
+    public static Map<String, Histogram> snapshot() {
+        Map<String, Histogram> copy = new TreeMap<>();
+        HISTOGRAMS.forEach((endpoint, histogram) -> copy.put(endpoint, histogram.copy()));
+        return copy;
+    }
+}
@@ -0,0 +1,30 @@
+package perf;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Событие JFR на каждый запрос RestAssured: длительность события — полное время запроса.
+// Без включённой записи JFR событие не коммитится и почти ничего не стоит.
+@Name("scooter.Request")
+@Label("Scooter API request")
+@Category({"Scooter", "HTTP"})
+@StackTrace(false)
+public class RequestEvent extends Event {
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status")
+    int status;
+
+    @Label("Request size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response size")
+    @DataAmount
+    long responseBytes;
+}
@@ -0,0 +1,149 @@
+package perf;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+// Сравнение прогона с базой — последними baselineRuns прогонами на том же стенде.
+// Регрессия по p50 или p95 ручки: значение выше среднего базы на zThreshold стандартных отклонений
+// между прогонами и одновременно хуже среднего на minRelative — так шум одного прогона на быстрых
+// ручках не поднимает тревогу. Для решения нужно хотя бы minBaselineRuns прогонов в базе.
+public class TrendComparison {
+    private final int baselineRuns;
+    private final int minBaselineRuns;
+    private final double zThreshold;
+    private final double minRelative;
+
+    public TrendComparison(int baselineRuns, int minBaselineRuns, double zThreshold, double minRelative) {
+        this.baselineRuns = baselineRuns;
+        this.minBaselineRuns = minBaselineRuns;
+        this.zThreshold = zThreshold;
+        this.minRelative = minRelative;
+    }
+
+    public List<Diff> compare(List<TrendRecord> history, List<TrendRecord> current) {
+        List<Diff> diffs = new ArrayList<>();
+        for (TrendRecord now : current) {
+            List<TrendRecord> baseline = baseline(history, now);
+            diffs.add(new Diff(now, baseline.size(),
+                    metric(baseline, now.getP50(), TrendRecord::getP50),
+                    metric(baseline, now.getP95(), TrendRecord::getP95)));
+        }
+        return diffs;
+    }
+
+    private List<TrendRecord> baseline(List<TrendRecord> history, TrendRecord now) {
+        // прогоны идут в файле по порядку: берём последние baselineRuns разных runId для этой ручки
+        List<TrendRecord> matching = new ArrayList<>();
+        Set<String> runs = new LinkedHashSet<>();
+        for (int i = history.size() - 1; i >= 0 && runs.size() < baselineRuns; i--) {
+            TrendRecord record = history.get(i);
+            if (record.getEndpoint().equals(now.getEndpoint()) && record.getTarget().equals(now.getTarget())
+                    && !record.getRunId().equals(now.getRunId()) && runs.add(record.getRunId())) {
+                matching.add(record);
+            }
+        }
+        return matching;
+    }
+
+    private Metric metric(List<TrendRecord> baseline, double value, ToDoubleFunction<TrendRecord> field) {
+        if (baseline.isEmpty()) {
+            return new Metric(value, Double.NaN, Double.NaN, false);
+        }
+        double mean = baseline.stream().mapToDouble(field).average().orElse(Double.NaN);
+        double variance = baseline.stream().mapToDouble(field).map(x -> (x - mean) * (x - mean)).sum()
+                / Math.max(1, baseline.size() - 1);
+        double stddev = Math.sqrt(variance);
+        boolean regression = baseline.size() >= minBaselineRuns
+                && value > mean + zThreshold * stddev
+                && value > mean * (1 + minRelative);
+        return new Metric(value, mean, stddev, regression);
+    }
+
+    public static void print(List<Diff> diffs, PrintStream out) {
+        out.println("Latency trend vs rolling baseline (ms):");
+        out.printf(Locale.ROOT, "  %-34s %7s %5s %18s %18s%n", "endpoint", "count", "base", "p50 now/base", "p95 now/base");
+        for (Diff diff : diffs) {
+            out.printf(Locale.ROOT, "  %-34s %7d %5d %18s %18s%s%n",
+                    diff.getCurrent().getEndpoint(), diff.getCurrent().getCount(), diff.getBaselineRuns(),
+                    diff.getP50(), diff.getP95(), diff.isRegression() ? "  REGRESSION" : "");
+        }
+    }
+
+    public static final class Diff {
+        private final TrendRecord current;
+        private final int baselineRuns;
+        private final Metric p50;
+        private final Metric p95;
+
+        Diff(TrendRecord current, int baselineRuns, Metric p50, Metric p95) {
+            this.current = current;
+            this.baselineRuns = baselineRuns;
+            this.p50 = p50;
+            this.p95 = p95;
+        }
+
+        public TrendRecord getCurrent() {
+            return current;
+        }
+
+        public int getBaselineRuns() {
+            return baselineRuns;
+        }
+
+        public Metric getP50() {
+            return p50;
+        }
+
+        public Metric getP95() {
+            return p95;
+        }
+
+        public boolean isRegression() {
+            return p50.isRegression() || p95.isRegression();
+        }
+    }
+
+    public static final class Metric {
+        private final double value;
+        private final double baselineMean;
+        private final double baselineStddev;
+        private final boolean regression;
+
+        Metric(double value, double baselineMean, double baselineStddev, boolean regression) {
+            this.value = value;
+            this.baselineMean = baselineMean;
+            this.baselineStddev = baselineStddev;
+            this.regression = regression;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public double getBaselineMean() {
+            return baselineMean;
+        }
+
+        public double getBaselineStddev() {
+            return baselineStddev;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+
+        @Override
+        public String toString() {
+            if (Double.isNaN(baselineMean)) {
+                return String.format(Locale.ROOT, "%.1f/-", value);
+            }
+            return String.format(Locale.ROOT, "%.1f/%.1f %+.0f%%", value, baselineMean,
+                    (value / baselineMean - 1) * 100);
+        }
+    }
+}
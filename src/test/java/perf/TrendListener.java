@@ -0,0 +1,55 @@
+package perf;
+
+import cassette.CassetteFilter;
+import data.TestData;
+import org.HdrHistogram.Histogram;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+import pojo.Endpoints;
+import runner.Shard;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// В конце прогона дописывает задержки ручек из LatencyStats в run-history/trends.jsonl
+// и печатает сравнение с предыдущими прогонами на том же стенде. -Dperf.trends=false отключает.
+public class TrendListener extends RunListener {
+    private long started;
+
+    @Override
+    public void testRunStarted(Description description) {
+        started = System.currentTimeMillis();
+    }
+
+    @Override
+    public void testRunFinished(Result result) {
+        // в replay ответы идут из кассеты, такие задержки в историю не пишем
+        // шард видит только часть ручек и запросов, с целыми прогонами его не сравнить
+        if (!Boolean.parseBoolean(System.getProperty("perf.trends", "true")) || !CassetteFilter.isLive()
+                || Shard.enabled()) {
+            return;
+        }
+        Map<String, Histogram> snapshot = LatencyStats.snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        String target = Boolean.getBoolean("scooter.stub") ? "stub" : Endpoints.baseUri();
+        List<TrendRecord> current = new ArrayList<>();
+        snapshot.forEach((endpoint, histogram) -> current.add(
+                TrendRecord.of(TestData.runId(), now, target, endpoint, histogram, now - started)));
+
+        TrendStore store = new TrendStore(Paths.get(System.getProperty("perf.trends.file", "run-history/trends.jsonl")));
+        List<TrendRecord> history = store.read();
+        store.append(current);
+        TrendComparison comparison = new TrendComparison(
+                Integer.getInteger("perf.trends.baselineRuns", 10),
+                Integer.getInteger("perf.trends.minBaselineRuns", 3),
+                Double.parseDouble(System.getProperty("perf.trends.z", "3")),
+                Double.parseDouble(System.getProperty("perf.trends.minRelative", "0.2")));
+        TrendComparison.print(comparison.compare(history, current), System.out);
+    }
+}
@@ -0,0 +1,88 @@
+package perf;
+
+import org.HdrHistogram.Histogram;
+
+// Строка trends.jsonl: задержки одной ручки за один прогон, миллисекунды
+public class TrendRecord {
+    private String runId;
+    private long timestamp;
+    private String target;
+    private String endpoint;
+    private long count;
+    private double p50;
+    private double p90;
+    private double p95;
+    private double p99;
+    private double max;
+    private double mean;
+    private long suiteMillis;
+
+    public TrendRecord() {
+    }
+
+    static TrendRecord of(String runId, long timestamp, String target, String endpoint, Histogram micros,
+                          long suiteMillis) {
+        TrendRecord record = new TrendRecord();
+        record.runId = runId;
+        record.timestamp = timestamp;
+        record.target = target;
+        record.endpoint = endpoint;
+        record.count = micros.getTotalCount();
+        record.p50 = micros.getValueAtPercentile(50) / 1000.0;
+        record.p90 = micros.getValueAtPercentile(90) / 1000.0;
+        record.p95 = micros.getValueAtPercentile(95) / 1000.0;
+        record.p99 = micros.getValueAtPercentile(99) / 1000.0;
+        record.max = micros.getMaxValue() / 1000.0;
+        record.mean = micros.getMean() / 1000.0;
+        record.suiteMillis = suiteMillis;
+        return record;
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP95() {
+        return p95;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getSuiteMillis() {
+        return suiteMillis;
+    }
+}
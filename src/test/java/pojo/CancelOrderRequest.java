@@ -0,0 +1,20 @@
+package pojo;
+
+public class CancelOrderRequest {
+    private Integer track;
+
+    public CancelOrderRequest(Integer track) {
+        this.track = track;
+    }
+
+    public CancelOrderRequest() {
+    }
+
+    public Integer getTrack() {
+        return track;
+    }
+
+    public void setTrack(Integer track) {
+        this.track = track;
+    }
+}
@@ -1,14 +1,12 @@
 package pojo;
 
-import com.github.javafaker.Faker;
+import data.TestData;
 
 public class Courier {
     private String login;
     private String password;
     private String firstName;
 
-    private static final Faker faker = new Faker();
-
     public Courier(String login, String password, String firstName) {
         this.login = login;
         this.password = password;
@@ -19,15 +17,15 @@ public class Courier {
     }
 
     public static String generateRandomLogin() {
-        return faker.name().username();
+        return TestData.login();
     }
 
     public static String generateRandomPassword() {
-        return faker.internet().password();
+        return TestData.password();
     }
 
     public static String generateRandomFirstName() {
-        return faker.name().firstName();
+        return TestData.firstName();
     }
 
     public String getLogin() {
@@ -0,0 +1,18 @@
+package pojo;
+
+// Ответ POST /api/v1/courier/login
+public class CourierIdResponse {
+    private Integer id;
+
+    public CourierIdResponse() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "CourierIdResponse{id=" + id + '}';
+    }
+}
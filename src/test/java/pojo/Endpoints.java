@@ -1,8 +1,22 @@
 package pojo;
 
+import stub.ScooterStubServer;
+
 public class Endpoints {
     public static final String BASE_URI = "https://qa-scooter.praktikum-services.ru";
     public static final String COURIER = "/api/v1/courier";
     public static final String COURIER_LOGIN = "/api/v1/courier/login";
     public static final String ORDERS = "/api/v1/orders";
+    public static final String ORDERS_TRACK = "/api/v1/orders/track";
+    public static final String ORDERS_ACCEPT = "/api/v1/orders/accept";
+    public static final String ORDERS_FINISH = "/api/v1/orders/finish";
+    public static final String ORDERS_CANCEL = "/api/v1/orders/cancel";
+
+    // -Dscooter.stub=true поднимает встроенный стенд, -Dscooter.baseUri=... направляет тесты на другой адрес
+    public static String baseUri() {
+        if (Boolean.getBoolean("scooter.stub")) {
+            return ScooterStubServer.shared().baseUri();
+        }
+        return System.getProperty("scooter.baseUri", BASE_URI);
+    }
 }
\ No newline at end of file
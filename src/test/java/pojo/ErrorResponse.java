@@ -0,0 +1,23 @@
+package pojo;
+
+// Тело ошибки стенда: {"code": 400, "message": "..."}
+public class ErrorResponse {
+    private Integer code;
+    private String message;
+
+    public ErrorResponse() {
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorResponse{code=" + code + ", message='" + message + "'}";
+    }
+}
@@ -0,0 +1,18 @@
+package pojo;
+
+// Ответ {"ok": true} на создание и удаление курьера
+public class OkResponse {
+    private Boolean ok;
+
+    public OkResponse() {
+    }
+
+    public Boolean getOk() {
+        return ok;
+    }
+
+    @Override
+    public String toString() {
+        return "OkResponse{ok=" + ok + '}';
+    }
+}
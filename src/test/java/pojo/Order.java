@@ -0,0 +1,90 @@
+package pojo;
+
+import java.util.List;
+
+// Заказ из списка GET /api/v1/orders; станция у стенда приходит строкой
+public class Order {
+    private Integer id;
+    private Integer courierId;
+    private String firstName;
+    private String lastName;
+    private String address;
+    private String metroStation;
+    private String phone;
+    private Integer rentTime;
+    private String deliveryDate;
+    private Integer track;
+    private List<String> color;
+    private String comment;
+    private String createdAt;
+    private String updatedAt;
+    private Integer status;
+
+    public Order() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Integer getCourierId() {
+        return courierId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getMetroStation() {
+        return metroStation;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public Integer getRentTime() {
+        return rentTime;
+    }
+
+    public String getDeliveryDate() {
+        return deliveryDate;
+    }
+
+    public Integer getTrack() {
+        return track;
+    }
+
+    public List<String> getColor() {
+        return color;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return "Order{id=" + id + ", track=" + track + ", metroStation='" + metroStation + "', status=" + status + '}';
+    }
+}
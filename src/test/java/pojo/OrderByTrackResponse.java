@@ -0,0 +1,18 @@
+package pojo;
+
+// Ответ GET /api/v1/orders/track?t=
+public class OrderByTrackResponse {
+    private Order order;
+
+    public OrderByTrackResponse() {
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderByTrackResponse{order=" + order + '}';
+    }
+}
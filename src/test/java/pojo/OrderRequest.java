@@ -28,6 +28,21 @@ public class OrderRequest {
         public OrderRequest() {
     }
 
+    // Заказ из сценария OrderTests: меняется только цвет
+    public static OrderRequest sample(List<String> color) {
+        return new OrderRequest(
+                "Naruto",
+                "Uchiha",
+                "Konoha, 142 apt.",
+                4,
+                "+7 800 355 35 35",
+                5,
+                "2020-06-06",
+                "Saske, come back to Konoha",
+                color
+        );
+    }
+
     public String getFirstName() {
         return firstName;
     }
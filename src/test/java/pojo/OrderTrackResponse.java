@@ -0,0 +1,18 @@
+package pojo;
+
+// Ответ POST /api/v1/orders
+public class OrderTrackResponse {
+    private Integer track;
+
+    public OrderTrackResponse() {
+    }
+
+    public Integer getTrack() {
+        return track;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderTrackResponse{track=" + track + '}';
+    }
+}
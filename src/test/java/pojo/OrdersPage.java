@@ -0,0 +1,25 @@
+package pojo;
+
+import java.util.List;
+
+// Ответ GET /api/v1/orders
+public class OrdersPage {
+    private List<Order> orders;
+    private PageInfo pageInfo;
+
+    public OrdersPage() {
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public PageInfo getPageInfo() {
+        return pageInfo;
+    }
+
+    @Override
+    public String toString() {
+        return "OrdersPage{orders=" + (orders == null ? null : orders.size()) + ", pageInfo=" + pageInfo + '}';
+    }
+}
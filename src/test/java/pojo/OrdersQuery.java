@@ -0,0 +1,85 @@
+package pojo;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Параметры GET /api/v1/orders: limit, page, courierId и nearestStation в виде ["1","2"]
+public class OrdersQuery {
+    private Integer limit;
+    private Integer page;
+    private Integer courierId;
+    private List<String> nearestStation;
+
+    public static OrdersQuery orders() {
+        return new OrdersQuery();
+    }
+
+    public OrdersQuery limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public OrdersQuery page(int page) {
+        this.page = page;
+        return this;
+    }
+
+    public OrdersQuery courierId(int courierId) {
+        this.courierId = courierId;
+        return this;
+    }
+
+    public OrdersQuery nearestStation(String... stations) {
+        this.nearestStation = List.of(stations);
+        return this;
+    }
+
+    public OrdersQuery copy() {
+        OrdersQuery copy = new OrdersQuery();
+        copy.limit = limit;
+        copy.page = page;
+        copy.courierId = courierId;
+        copy.nearestStation = nearestStation;
+        return copy;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public Map<String, String> toParams() {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (courierId != null) {
+            params.put("courierId", courierId.toString());
+        }
+        if (nearestStation != null) {
+            List<String> quoted = new ArrayList<>();
+            for (String station : nearestStation) {
+                quoted.add("\"" + station + "\"");
+            }
+            params.put("nearestStation", "[" + String.join(",", quoted) + "]");
+        }
+        if (limit != null) {
+            params.put("limit", limit.toString());
+        }
+        if (page != null) {
+            params.put("page", page.toString());
+        }
+        return params;
+    }
+
+    public String toQueryString() {
+        return toParams().entrySet().stream()
+                .map(param -> param.getKey() + "=" + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+}
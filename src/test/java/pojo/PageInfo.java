@@ -0,0 +1,27 @@
+package pojo;
+
+public class PageInfo {
+    private Integer page;
+    private Integer total;
+    private Integer limit;
+
+    public PageInfo() {
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "PageInfo{page=" + page + ", total=" + total + ", limit=" + limit + '}';
+    }
+}
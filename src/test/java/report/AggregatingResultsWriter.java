@@ -0,0 +1,96 @@
+package report;
+
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+// Все результаты прогона одним gzip-файлом run-<время>-<pid>.allure.gz вместо тысяч мелких файлов.
+// Запись: тип (1 байт), имя файла, длина и байты — ровно те, что записал бы FileSystemResultsWriter
+// (тем же ObjectMapper Allure). AllureExpand раскладывает архив обратно в обычные allure-results.
+public class AggregatingResultsWriter implements AllureResultsWriter, AsyncResultsWriter.Flushable, Closeable {
+    static final String SUFFIX = ".allure.gz";
+    static final byte RESULT = 1;
+    static final byte CONTAINER = 2;
+    static final byte ATTACHMENT = 3;
+
+    private final ObjectMapper mapper = Allure2ModelJackson.createMapper();
+    private final Path file;
+    private final DataOutputStream out;
+
+    public AggregatingResultsWriter(Path directory) {
+        file = directory.resolve("run-" + System.currentTimeMillis() + "-" + ProcessHandle.current().pid() + SUFFIX);
+        try {
+            Files.createDirectories(directory);
+            out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file)),
+                    64 * 1024, true));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void write(TestResult testResult) {
+        try {
+            record(RESULT, testResult.getUuid() + "-result.json", mapper.writeValueAsBytes(testResult));
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not write Allure test result", e);
+        }
+    }
+
+    @Override
+    public synchronized void write(TestResultContainer testResultContainer) {
+        try {
+            record(CONTAINER, testResultContainer.getUuid() + "-container.json",
+                    mapper.writeValueAsBytes(testResultContainer));
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not write Allure test result container", e);
+        }
+    }
+
+    @Override
+    public synchronized void write(String source, InputStream attachment) {
+        try (InputStream in = attachment) {
+            record(ATTACHMENT, source, in.readAllBytes());
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not write Allure attachment", e);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void record(byte type, String name, byte[] bytes) throws IOException {
+        out.writeByte(type);
+        out.writeUTF(name);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
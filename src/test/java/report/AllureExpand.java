@@ -0,0 +1,51 @@
+package report;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+
+// Раскладывает архивы AggregatingResultsWriter в обычную папку allure-results для allure serve/generate:
+// mvn test-compile exec:java -Dexec.mainClass=report.AllureExpand -Dexec.classpathScope=test -Dexec.args=target/allure-results
+public final class AllureExpand {
+
+    private AllureExpand() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : System.getProperty("allure.results.directory",
+                "target/allure-results"));
+        int files = 0;
+        try (DirectoryStream<Path> archives = Files.newDirectoryStream(directory, "*" + AggregatingResultsWriter.SUFFIX)) {
+            for (Path archive : archives) {
+                files += expand(archive, directory);
+                Files.delete(archive);
+            }
+        }
+        System.out.println("Expanded " + files + " Allure files into " + directory);
+    }
+
+    static int expand(Path archive, Path directory) throws IOException {
+        int files = 0;
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(
+                new BufferedInputStream(Files.newInputStream(archive)), 64 * 1024))) {
+            while (true) {
+                try {
+                    in.readByte();
+                } catch (EOFException end) {
+                    return files;
+                }
+                String name = in.readUTF();
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                Files.write(directory.resolve(name), bytes);
+                files++;
+            }
+        }
+    }
+}
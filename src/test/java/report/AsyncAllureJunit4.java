@@ -0,0 +1,71 @@
+package report;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.aspects.AttachmentsAspects;
+import io.qameta.allure.aspects.StepsAspects;
+import io.qameta.allure.junit4.AllureJunit4;
+import org.junit.runner.Result;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+// AllureJunit4 с фоновой записью результатов (AsyncResultsWriter).
+// -Dreport.mode=files пишет обычные allure-results, aggregate — один gzip-архив на прогон (см. AllureExpand).
+public class AsyncAllureJunit4 extends AllureJunit4 {
+    private static final long FLUSH_SECONDS = Long.getLong("report.flushSeconds", 60);
+
+    public AsyncAllureJunit4() {
+        super(Holder.LIFECYCLE);
+    }
+
+    @Override
+    public void testRunFinished(Result result) {
+        super.testRunFinished(result);
+        try {
+            if (!Holder.WRITER.flush(FLUSH_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("Allure results are still being written: " + Holder.WRITER.report());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Holder {
+        private static final AsyncResultsWriter WRITER = createWriter();
+        private static final AllureLifecycle LIFECYCLE = createLifecycle();
+
+        private static AsyncResultsWriter createWriter() {
+            Path directory = Paths.get(System.getProperty("allure.results.directory", "allure-results"));
+            String mode = System.getProperty("report.mode", "files");
+            AllureResultsWriter delegate;
+            switch (mode) {
+                case "files":
+                    delegate = new FileSystemResultsWriter(directory);
+                    break;
+                case "aggregate":
+                    delegate = new AggregatingResultsWriter(directory);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Неизвестный report.mode=" + mode + " (files, aggregate)");
+            }
+            AsyncResultsWriter writer = new AsyncResultsWriter(delegate,
+                    Integer.getInteger("report.queueSize", 10_000),
+                    Integer.getInteger("report.batchSize", 256));
+            Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "allure-results-close"));
+            return writer;
+        }
+
+        // Шаги и вложения из аспектов и Allure.addAttachment должны идти в тот же lifecycle
+        private static AllureLifecycle createLifecycle() {
+            AllureLifecycle lifecycle = new AllureLifecycle(WRITER);
+            Allure.setLifecycle(lifecycle);
+            StepsAspects.setLifecycle(lifecycle);
+            AttachmentsAspects.setLifecycle(lifecycle);
+            return lifecycle;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package report;
+
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Запись результатов Allure в фоновом потоке: тестовый поток только кладёт результат в очередь
+// (вложение перед этим читается в память, поток вложения закрывает вызывающий), фоновый поток
+// забирает очередь пачками и пишет через delegate. Полная очередь притормаживает тесты, а не теряет результаты.
+public class AsyncResultsWriter implements AllureResultsWriter, Closeable {
+    private final AllureResultsWriter delegate;
+    private final BlockingQueue<Runnable> queue;
+    private final int batchSize;
+    private final Thread worker;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public AsyncResultsWriter(AllureResultsWriter delegate, int queueSize, int batchSize) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.worker = new Thread(this::work, "allure-results-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        enqueue(() -> delegate.write(testResult));
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        enqueue(() -> delegate.write(testResultContainer));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        byte[] bytes;
+        try {
+            bytes = attachment.readAllBytes();
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not read attachment " + source, e);
+        }
+        enqueue(() -> delegate.write(source, new ByteArrayInputStream(bytes)));
+    }
+
+    // Дожидается записи всего, что уже в очереди, и сбрасывает delegate на диск
+    public boolean flush(long timeout, TimeUnit unit) throws InterruptedException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        enqueue(() -> {
+            if (delegate instanceof Flushable) {
+                ((Flushable) delegate).flush();
+            }
+            flushed.countDown();
+        });
+        return flushed.await(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker.interrupt();
+        if (delegate instanceof Closeable) {
+            try {
+                ((Closeable) delegate).close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public String report() {
+        return "written=" + written.sum() + ", failed=" + failed.sum() + ", queued=" + queue.size();
+    }
+
+    private void enqueue(Runnable task) {
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AllureResultsWriteException("Interrupted while queueing Allure result", e);
+        }
+    }
+
+    private void work() {
+        List<Runnable> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            for (Runnable task : batch) {
+                try {
+                    task.run();
+                    written.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    System.err.println("Allure result was not written: " + e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    // delegate, который копит запись в буфере и умеет сбросить его между пачками
+    public interface Flushable {
+        void flush();
+    }
+}
@@ -0,0 +1,26 @@
+package runner;
+
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import tests.ConnectionPoolTests;
+import tests.CourierLoginTests;
+import tests.CourierMatrixTests;
+import tests.CourierTests;
+import tests.OrderLifecycleTests;
+import tests.OrderListTests;
+import tests.OrderTests;
+
+// Все тесты одним набором с раскладкой по длительностям: mvn test -Pbalanced.
+// Имя без суффикса Tests, чтобы обычный прогон не запускал тесты второй раз.
+@RunWith(BalancedSuite.class)
+@Suite.SuiteClasses({
+        CourierTests.class,
+        CourierLoginTests.class,
+        CourierMatrixTests.class,
+        OrderTests.class,
+        OrderListTests.class,
+        OrderLifecycleTests.class,
+        ConnectionPoolTests.class
+})
+public class BalancedRun {
+}
@@ -0,0 +1,180 @@
+package runner;
+
+import matrix.MatrixRunner;
+import org.junit.runner.Description;
+import org.junit.runner.Request;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Suite;
+import org.junit.runners.model.InitializationError;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Раннер набора из @SuiteClasses: каждый тест запускается отдельно, тесты раскладываются по воркерам
+// по длительностям прошлых прогонов (run-history/durations.properties) так, чтобы все воркеры
+// закончили примерно одновременно. В конце печатает ожидаемое и фактическое время и обновляет историю.
+// Классовых фикстур у тестов нет, поэтому запуск класса на каждый тест ничего не ломает.
+// С -Dshard.count набор берёт только тесты своего шарда (см. Shard и ShardLauncher).
+public class BalancedSuite extends Runner implements Filterable {
+    private static final int WORKERS = Integer.getInteger("balanced.workers",
+            2 * Runtime.getRuntime().availableProcessors());
+    private static final long DEFAULT_MILLIS = Long.getLong("balanced.defaultMillis", 500);
+
+    private final Class<?> suite;
+    private final List<Unit> units = new ArrayList<>();
+
+    public BalancedSuite(Class<?> suite) throws InitializationError {
+        this.suite = suite;
+        Suite.SuiteClasses classes = suite.getAnnotation(Suite.SuiteClasses.class);
+        if (classes == null) {
+            throw new InitializationError("Класс " + suite.getName() + " должен быть помечен @SuiteClasses");
+        }
+        for (Class<?> testClass : classes.value()) {
+            Runner classRunner = Request.aClass(testClass).getRunner();
+            // матрица отправляет кейсы одной пачкой, поэтому идёт целиком одним блоком
+            if (classRunner instanceof MatrixRunner) {
+                if (Shard.owns(testClass.getName())) {
+                    units.add(new Unit(classRunner.getDescription(), classRunner));
+                }
+                continue;
+            }
+            // обычный класс целиком в одном шарде, строки параметризованного расходятся по шардам
+            boolean splitRows = classRunner instanceof Parameterized;
+            if (!splitRows && !Shard.owns(testClass.getName())) {
+                continue;
+            }
+            for (Description test : leaves(classRunner.getDescription())) {
+                Unit unit = new Unit(test, Request.aClass(testClass).filterWith(test).getRunner());
+                if (!splitRows || Shard.owns(unit.key)) {
+                    units.add(unit);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Description getDescription() {
+        Description description = Description.createSuiteDescription(suite);
+        for (Unit unit : units) {
+            description.addChild(unit.runner.getDescription());
+        }
+        return description;
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        units.removeIf(unit -> !filter.shouldRun(unit.test));
+        if (units.isEmpty()) {
+            throw new NoTestsRemainException();
+        }
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        Path historyFile = Paths.get(System.getProperty("balanced.durations.file", "run-history/durations.properties"));
+        DurationHistory history = new DurationHistory(historyFile,
+                Double.parseDouble(System.getProperty("balanced.alpha", "0.5")));
+        long fallback = history.average(DEFAULT_MILLIS);
+        int unknown = 0;
+        for (Unit unit : units) {
+            if (history.millis(unit.key).isPresent()) {
+                unit.predictedMillis = history.millis(unit.key).getAsLong();
+            } else {
+                unit.predictedMillis = fallback;
+                unknown++;
+            }
+        }
+        Schedule<Unit> schedule = Schedule.plan(units, unit -> unit.predictedMillis, WORKERS);
+
+        Map<String, Long> actual = new ConcurrentHashMap<>();
+        long[] workerMillis = new long[schedule.getBins().size()];
+        AtomicInteger number = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(workerMillis.length, runnable -> {
+            Thread thread = new Thread(runnable, "balanced-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Schedule.Bin<Unit> bin : schedule.getBins()) {
+                futures.add(workers.submit(() -> {
+                    long binStarted = System.nanoTime();
+                    for (Unit unit : bin.getItems()) {
+                        long unitStarted = System.nanoTime();
+                        unit.runner.run(notifier);
+                        actual.put(unit.key, (System.nanoTime() - unitStarted) / 1_000_000);
+                    }
+                    workerMillis[bin.getIndex()] = (System.nanoTime() - binStarted) / 1_000_000;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new IllegalStateException("Воркер набора " + suite.getName() + " упал", e);
+        } finally {
+            workers.shutdownNow();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf(Locale.ROOT, "Balanced schedule%s: %d tests on %d workers (%d without history), "
+                        + "predicted %.1f s (serial %.1f s), actual %.1f s%n",
+                Shard.enabled() ? " shard " + Shard.index() + "/" + Shard.count() : "",
+                units.size(), workerMillis.length, unknown, schedule.getPredictedMillis() / 1000.0,
+                schedule.getSerialMillis() / 1000.0, elapsedMillis / 1000.0);
+        for (Schedule.Bin<Unit> bin : schedule.getBins()) {
+            System.out.printf(Locale.ROOT, "  worker %d: %3d tests, predicted %6.1f s, actual %6.1f s%n",
+                    bin.getIndex() + 1, bin.getItems().size(), bin.getPredictedMillis() / 1000.0,
+                    workerMillis[bin.getIndex()] / 1000.0);
+        }
+        history.update(actual);
+        // шарды пишут каждый в свой файл только свои тесты, общую историю из них собирает ShardLauncher
+        String out = System.getProperty("balanced.durations.out");
+        if (out == null) {
+            history.save(historyFile);
+        } else {
+            history.saveUpdated(Paths.get(out));
+        }
+    }
+
+    private static List<Description> leaves(Description description) {
+        List<Description> leaves = new ArrayList<>();
+        if (description.isTest()) {
+            leaves.add(description);
+        }
+        for (Description child : description.getChildren()) {
+            leaves.addAll(leaves(child));
+        }
+        return leaves;
+    }
+
+    private static final class Unit {
+        private final Description test;
+        private final String key;
+        private final Runner runner;
+        private long predictedMillis;
+
+        private Unit(Description test, Runner runner) {
+            this.test = test;
+            this.key = test.getMethodName() == null ? test.getClassName() : test.getClassName() + "#" + test.getMethodName();
+            this.runner = runner;
+        }
+    }
+}
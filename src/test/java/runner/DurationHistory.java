@@ -0,0 +1,95 @@
+package runner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+// Длительности тестов прошлых прогонов: ключ класс#метод, значение — сглаженное время в миллисекундах.
+// Новое время смешивается со старым с весом alpha, чтобы один медленный прогон не перекраивал расписание.
+public class DurationHistory {
+    private final Path file;
+    private final double alpha;
+    private final Properties durations = new Properties();
+    private final Properties updated = new Properties();
+
+    public DurationHistory(Path file, double alpha) {
+        this.file = file;
+        this.alpha = alpha;
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                durations.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public OptionalLong millis(String test) {
+        String value = durations.getProperty(test);
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    // для тестов без истории — среднее по известным, чтобы новый тест не считался бесплатным
+    public long average(long fallback) {
+        OptionalDouble average = durations.stringPropertyNames().stream()
+                .map(this::millis)
+                .filter(OptionalLong::isPresent)
+                .mapToLong(OptionalLong::getAsLong)
+                .average();
+        return average.isPresent() ? Math.round(average.getAsDouble()) : fallback;
+    }
+
+    public void update(Map<String, Long> actual) {
+        actual.forEach((test, millis) -> {
+            OptionalLong previous = millis(test);
+            long smoothed = previous.isPresent()
+                    ? Math.round(alpha * millis + (1 - alpha) * previous.getAsLong())
+                    : millis;
+            durations.setProperty(test, Long.toString(smoothed));
+            updated.setProperty(test, Long.toString(smoothed));
+        });
+    }
+
+    // длительности другой истории (например, шарда) заменяют свои
+    public void merge(DurationHistory other) {
+        other.durations.forEach(durations::put);
+    }
+
+    public void save(Path target) {
+        store(durations, target);
+    }
+
+    // Только тесты, обновлённые в этом прогоне: файл шарда со старыми значениями остальных тестов
+    // при слиянии затёр бы свежие длительности других шардов
+    public void saveUpdated(Path target) {
+        store(updated, target);
+    }
+
+    private static void store(Properties durations, Path target) {
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+                durations.store(writer, "test durations, ms");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package runner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+// Раскладка тестов по воркерам жадным LPT: самые долгие тесты идут первыми,
+// каждый следующий достаётся воркеру с наименьшей суммарной ожидаемой длительностью.
+// Итоговое время прогона не хуже 4/3 оптимального.
+public class Schedule<T> {
+    private final List<Bin<T>> bins;
+
+    private Schedule(List<Bin<T>> bins) {
+        this.bins = bins;
+    }
+
+    public static <T> Schedule<T> plan(List<T> items, ToLongFunction<T> predictedMillis, int workers) {
+        List<T> longestFirst = new ArrayList<>(items);
+        longestFirst.sort(Comparator.comparingLong(predictedMillis).reversed());
+
+        List<Bin<T>> bins = new ArrayList<>();
+        PriorityQueue<Bin<T>> leastLoaded = new PriorityQueue<>(
+                Comparator.<Bin<T>>comparingLong(Bin::getPredictedMillis).thenComparingInt(Bin::getIndex));
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            Bin<T> bin = new Bin<>(i);
+            bins.add(bin);
+            leastLoaded.add(bin);
+        }
+        for (T item : longestFirst) {
+            Bin<T> bin = leastLoaded.poll();
+            bin.add(item, predictedMillis.applyAsLong(item));
+            leastLoaded.add(bin);
+        }
+        return new Schedule<>(bins);
+    }
+
+    public List<Bin<T>> getBins() {
+        return bins;
+    }
+
+    public long getPredictedMillis() {
+        return bins.stream().mapToLong(Bin::getPredictedMillis).max().orElse(0);
+    }
+
+    public long getSerialMillis() {
+        return bins.stream().mapToLong(Bin::getPredictedMillis).sum();
+    }
+
+    public static final class Bin<T> {
+        private final int index;
+        private final List<T> items = new ArrayList<>();
+        private long predictedMillis;
+
+        private Bin(int index) {
+            this.index = index;
+        }
+
+        private void add(T item, long millis) {
+            items.add(item);
+            predictedMillis += millis;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public long getPredictedMillis() {
+            return predictedMillis;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package runner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+// Номер шарда прогона: -Dshard.index (с нуля) из -Dshard.count. Тест достаётся шарду по CRC32 своего ключа,
+// поэтому раскладка одинакова на любой машине и не зависит от порядка обхода классов.
+public final class Shard {
+    private static final int COUNT = Integer.getInteger("shard.count", 1);
+    private static final int INDEX = Integer.getInteger("shard.index", 0);
+
+    static {
+        if (COUNT < 1 || INDEX < 0 || INDEX >= COUNT) {
+            throw new IllegalArgumentException("Некорректный шард: shard.index=" + INDEX + ", shard.count=" + COUNT);
+        }
+    }
+
+    private Shard() {
+    }
+
+    public static boolean enabled() {
+        return COUNT > 1;
+    }
+
+    public static int index() {
+        return INDEX;
+    }
+
+    public static int count() {
+        return COUNT;
+    }
+
+    public static boolean owns(String key) {
+        return of(key, COUNT) == INDEX;
+    }
+
+    public static int of(String key, int count) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % count);
+    }
+
+    // часть логина, которая разводит курьеров разных шардов одного прогона
+    public static String namespace() {
+        return enabled() ? "s" + Integer.toString(INDEX, Character.MAX_RADIX) : "";
+    }
+}
@@ -0,0 +1,165 @@
+package runner;
+
+import data.TestData;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Шардированный прогон на одной машине: shard.count процессов mvn surefire:test -Pbalanced, каждый со своим
+// -Dshard.index и своими папками в target/shards/<i> (Allure, отчёты surefire, длительности, вывод).
+// Все шарды получают один testdata.runId, логины курьеров разводит номер шарда.
+// После завершения результаты Allure сливаются в target/allure-results, длительности — в общую историю
+// BalancedSuite, и печатается итог по шардам. На нескольких машинах каждая запускает свой шард сама,
+// папки target/shards/<i> собираются на одну, и слияние делается с -Dshard.mergeOnly=true.
+public class ShardLauncher {
+    // итоговая строка surefire без "Time elapsed": отчёты по классам у BalancedRun перезаписывают друг друга
+    private static final Pattern RESULTS = Pattern.compile(
+            "Tests run: (\\d+), Failures: (\\d+), Errors: (\\d+), Skipped: (\\d+)\\s*$");
+
+    private ShardLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = Integer.getInteger("shard.count", Runtime.getRuntime().availableProcessors());
+        Path root = Paths.get(System.getProperty("shard.dir", "target/shards"));
+        long[] wallMillis = new long[count];
+        int[] exitCodes = new int[count];
+        long started = System.nanoTime();
+        if (!Boolean.getBoolean("shard.mergeOnly")) {
+            launch(count, root, wallMillis, exitCodes);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        int merged = mergeAllure(root, count, Paths.get(System.getProperty("allure.results.dir", "target/allure-results")));
+        mergeDurations(root, count);
+        boolean failed = false;
+        System.out.printf(Locale.ROOT, "Shards: %d, wall %.1f s, allure results merged: %d files%n", count, elapsed / 1000.0, merged);
+        for (int i = 0; i < count; i++) {
+            int[] totals = results(root.resolve(Integer.toString(i)).resolve("output.log"));
+            failed |= exitCodes[i] != 0 || totals[1] > 0;
+            System.out.printf(Locale.ROOT, "  shard %d: exit %d, %.1f s, tests=%d failed=%d skipped=%d%n",
+                    i, exitCodes[i], wallMillis[i] / 1000.0, totals[0], totals[1], totals[2]);
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static void launch(int count, Path root, long[] wallMillis, int[] exitCodes)
+            throws IOException, InterruptedException {
+        String extra = System.getProperty("shard.mvnArgs", "").trim();
+        // все шарды работают в одной папке: запись в одну кассету из нескольких JVM её испортит
+        if (extra.toLowerCase(Locale.ROOT).matches("(^|.*\\s)-dcassette\\.mode=record(\\s.*|$)")) {
+            throw new IllegalArgumentException("Запись кассеты (-Dcassette.mode=record) в шардах не поддерживается, "
+                    + "запишите её обычным прогоном");
+        }
+        String runId = TestData.runId();
+        List<Process> processes = new ArrayList<>();
+        long[] startedAt = new long[count];
+        for (int i = 0; i < count; i++) {
+            Path dir = root.resolve(Integer.toString(i));
+            deleteRecursively(dir);
+            Files.createDirectories(dir);
+            List<String> command = new ArrayList<>(List.of(
+                    System.getProperty("shard.mvn", "mvn"), "-B", "surefire:test",
+                    "-P" + join("balanced", System.getProperty("shard.profiles", "")),
+                    "-Dshard.index=" + i,
+                    "-Dshard.count=" + count,
+                    "-Dtestdata.runId=" + runId,
+                    "-Dallure.results.dir=" + dir.resolve("allure-results").toAbsolutePath(),
+                    "-Dsurefire.reports.dir=" + dir.resolve("surefire-reports").toAbsolutePath(),
+                    "-Dbalanced.durations.out=" + dir.resolve("durations.properties").toAbsolutePath()));
+            if (!extra.isEmpty()) {
+                command.addAll(Arrays.asList(extra.split("\\s+")));
+            }
+            startedAt[i] = System.nanoTime();
+            processes.add(new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(dir.resolve("output.log").toFile())
+                    .start());
+        }
+        for (int i = 0; i < count; i++) {
+            exitCodes[i] = processes.get(i).waitFor();
+            wallMillis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt[i]);
+        }
+    }
+
+    // имена результатов Allure — UUID, а архивы aggregate содержат pid, поэтому файлы шардов не пересекаются
+    private static int mergeAllure(Path root, int count, Path target) throws IOException {
+        Files.createDirectories(target);
+        int copied = 0;
+        for (int i = 0; i < count; i++) {
+            Path results = root.resolve(Integer.toString(i)).resolve("allure-results");
+            if (!Files.isDirectory(results)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(results)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.copy(file, target.resolve(file.getFileName().toString()), StandardCopyOption.REPLACE_EXISTING);
+                    copied++;
+                }
+            }
+        }
+        return copied;
+    }
+
+    private static void mergeDurations(Path root, int count) {
+        Path file = Paths.get(System.getProperty("balanced.durations.file", "run-history/durations.properties"));
+        double alpha = Double.parseDouble(System.getProperty("balanced.alpha", "0.5"));
+        DurationHistory history = new DurationHistory(file, alpha);
+        for (int i = 0; i < count; i++) {
+            Path shard = root.resolve(Integer.toString(i)).resolve("durations.properties");
+            if (Files.exists(shard)) {
+                history.merge(new DurationHistory(shard, alpha));
+            }
+        }
+        history.save(file);
+    }
+
+    // tests, failed (failures + errors), skipped из вывода mvn шарда
+    private static int[] results(Path log) throws IOException {
+        int[] totals = new int[3];
+        if (!Files.exists(log)) {
+            return totals;
+        }
+        for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+            Matcher matcher = RESULTS.matcher(line);
+            if (matcher.find()) {
+                totals[0] = Integer.parseInt(matcher.group(1));
+                totals[1] = Integer.parseInt(matcher.group(2)) + Integer.parseInt(matcher.group(3));
+                totals[2] = Integer.parseInt(matcher.group(4));
+            }
+        }
+        return totals;
+    }
+
+    private static String join(String profile, String more) {
+        return more.isBlank() ? profile : profile + "," + more.trim();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package soak;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+// Сводка soak-прогона. Окна делятся на четверти (первое окно — прогрев), по каждой четверти берутся
+// устойчивые к шуму значения: минимум кучи после GC (нижняя граница живых объектов), медиана p95 окон
+// и максимум потоков. Утечка — нижняя граница кучи растёт от четверти к четверти и в итоге больше
+// чем на heapGrowth; дрейф задержки — медиана p95 последней четверти хуже первой больше чем на latencyDrift.
+public class SoakReport {
+    private static final int QUARTERS = 4;
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final List<SoakSample> samples;
+    private final long[] heapFloor = new long[QUARTERS];
+    private final long[] p95 = new long[QUARTERS];
+    private final long[] threads = new long[QUARTERS];
+    private final double heapSlopeMbPerHour;
+    private final boolean enoughData;
+    private final boolean heapGrowing;
+    private final boolean latencyDrift;
+    private final boolean threadsGrowing;
+
+    public SoakReport(List<SoakSample> all, double heapGrowth, double latencyDriftRatio, int threadGrowth) {
+        this.samples = all.size() > 1 ? List.copyOf(all.subList(1, all.size())) : List.copyOf(all);
+        this.enoughData = samples.size() >= QUARTERS;
+        if (!enoughData) {
+            heapSlopeMbPerHour = Double.NaN;
+            heapGrowing = false;
+            latencyDrift = false;
+            threadsGrowing = false;
+            return;
+        }
+        for (int q = 0; q < QUARTERS; q++) {
+            List<SoakSample> quarter = quarter(q);
+            heapFloor[q] = quarter.stream().mapToLong(SoakReport::heapAfterGc).min().orElse(0);
+            p95[q] = median(quarter, SoakSample::getP95Micros);
+            threads[q] = quarter.stream().mapToLong(SoakSample::getThreads).max().orElse(0);
+        }
+        boolean increasing = true;
+        for (int q = 1; q < QUARTERS; q++) {
+            increasing &= heapFloor[q] > heapFloor[q - 1];
+        }
+        heapGrowing = increasing && heapFloor[QUARTERS - 1] > heapFloor[0] * (1 + heapGrowth);
+        latencyDrift = p95[QUARTERS - 1] > p95[0] * (1 + latencyDriftRatio);
+        threadsGrowing = threads[QUARTERS - 1] > threads[0] + threadGrowth;
+        heapSlopeMbPerHour = slope();
+    }
+
+    public boolean isClean() {
+        return !heapGrowing && !latencyDrift && !threadsGrowing;
+    }
+
+    public void print(PrintStream out) {
+        long requests = samples.stream().mapToLong(SoakSample::getRequests).sum();
+        long errors = samples.stream().mapToLong(SoakSample::getErrors).sum();
+        long seconds = samples.isEmpty() ? 0 : samples.get(samples.size() - 1).getElapsedMillis() / 1000;
+        out.printf(Locale.ROOT, "Soak: %d s, %d windows, %d requests, %d errors%n", seconds, samples.size(), requests, errors);
+        if (!enoughData) {
+            out.println("  not enough windows for a verdict (need " + QUARTERS + " after warmup)");
+            return;
+        }
+        SoakSample last = samples.get(samples.size() - 1);
+        out.printf(Locale.ROOT, "  heap after GC by quarter, MB: %s, slope %+.1f MB/h%s%n",
+                format(heapFloor, MB), heapSlopeMbPerHour, heapGrowing ? "  HEAP GROWING" : "");
+        out.printf(Locale.ROOT, "  p95 by quarter, ms:          %s%s%n",
+                format(p95, 1000.0), latencyDrift ? "  LATENCY DRIFT" : "");
+        out.printf(Locale.ROOT, "  threads by quarter:          %s%s%n",
+                format(threads, 1.0), threadsGrowing ? "  THREADS GROWING" : "");
+        out.printf(Locale.ROOT, "  GC: %d collections, %.1f s total%n", last.getGcCount(), last.getGcMillis() / 1000.0);
+        out.println("  verdict: " + (isClean() ? "OK" : "DRIFT"));
+    }
+
+    private List<SoakSample> quarter(int q) {
+        int from = samples.size() * q / QUARTERS;
+        int to = samples.size() * (q + 1) / QUARTERS;
+        return samples.subList(from, to);
+    }
+
+    // наклон кучи после GC по МНК, МБ в час
+    private double slope() {
+        double n = samples.size();
+        double meanX = samples.stream().mapToLong(SoakSample::getElapsedMillis).average().orElse(0);
+        double meanY = samples.stream().mapToLong(SoakReport::heapAfterGc).average().orElse(0);
+        double covariance = 0;
+        double variance = 0;
+        for (SoakSample sample : samples) {
+            double dx = sample.getElapsedMillis() - meanX;
+            covariance += dx * (heapAfterGc(sample) - meanY);
+            variance += dx * dx;
+        }
+        if (variance == 0 || n < 2) {
+            return 0;
+        }
+        return covariance / variance * 3_600_000 / MB;
+    }
+
+    // не все сборщики отдают использование после GC, тогда берём текущее
+    private static long heapAfterGc(SoakSample sample) {
+        return sample.getHeapAfterGc() > 0 ? sample.getHeapAfterGc() : sample.getHeapUsed();
+    }
+
+    private static long median(List<SoakSample> quarter, ToLongFunction<SoakSample> field) {
+        long[] values = quarter.stream().mapToLong(field).sorted().toArray();
+        return values.length == 0 ? 0 : values[values.length / 2];
+    }
+
+    private static String format(long[] values, double divisor) {
+        List<String> formatted = new ArrayList<>();
+        Arrays.stream(values).forEach(value -> formatted.add(String.format(Locale.ROOT, "%8.1f", value / divisor)));
+        return String.join(" ", formatted);
+    }
+}
@@ -0,0 +1,196 @@
+package soak;
+
+import client.OrdersApi;
+import client.Specs;
+import data.TestData;
+import fixtures.CleanupQueue;
+import fixtures.CourierJournal;
+import io.restassured.response.Response;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.hc.core5.http.HttpStatus;
+import perf.RequestEvent;
+import pojo.Courier;
+import pojo.CourierIdResponse;
+import pojo.Endpoints;
+import pojo.LoginRequest;
+import pojo.OrderTrackResponse;
+import pojo.OrdersQuery;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+// Долгий прогон сценариев курьера (создание → логин → удаление) и заказа (создание → поиск по треку →
+// отмена → список) на обычном стеке RestAssured с фильтрами — чтобы увидеть, копит ли клиент что-то
+// со временем. Пишет запись JFR (события RequestEvent на каждый запрос, SoakSampleEvent на каждое окно
+// и стандартные события GC и кучи) и в конце печатает сводку SoakReport по четвертям прогона.
+// Встроенный стенд держит все заказы в той же куче, поэтому прогон идёт только против отдельного стенда.
+public class SoakRunner {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Recorder latency = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final List<SoakSample> samples = Collections.synchronizedList(new ArrayList<>());
+    private final long started = System.nanoTime();
+
+    public static void main(String[] args) throws Exception {
+        if (Boolean.getBoolean("scooter.stub")) {
+            throw new IllegalArgumentException("Встроенный стенд копит заказы в куче этой же JVM: поднимите его отдельно"
+                    + " (mvn test-compile exec:java -Pstub) и укажите -Dscooter.baseUri");
+        }
+        long durationSeconds = Long.getLong("soak.duration", 7200);
+        long sampleSeconds = Long.getLong("soak.sampleSeconds", 30);
+        int threads = Integer.getInteger("soak.threads", 4);
+        Path jfrFile = Paths.get(System.getProperty("soak.jfrFile", "target/soak.jfr"));
+
+        SoakRunner runner = new SoakRunner();
+        System.out.println("Soak: " + threads + " threads against " + Endpoints.baseUri() + " for " + durationSeconds
+                + " s, window " + sampleSeconds + " s, JFR -> " + jfrFile);
+        if (jfrFile.getParent() != null) {
+            Files.createDirectories(jfrFile.getParent());
+        }
+        try (Recording recording = new Recording(Configuration.getConfiguration("default"))) {
+            recording.enable(RequestEvent.class);
+            recording.enable(SoakSampleEvent.class);
+            recording.setDestination(jfrFile);
+            recording.start();
+            runner.run(threads, durationSeconds, sampleSeconds);
+            recording.stop();
+        }
+
+        SoakReport report = new SoakReport(runner.samples,
+                Double.parseDouble(System.getProperty("soak.heapGrowth", "0.2")),
+                Double.parseDouble(System.getProperty("soak.latencyDrift", "0.25")),
+                Integer.getInteger("soak.threadGrowth", 5));
+        report.print(System.out);
+        System.exit(report.isClean() ? 0 : 1);
+    }
+
+    private void run(int threads, long durationSeconds, long sampleSeconds) throws InterruptedException {
+        long deadline = started + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "soak-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sample, sampleSeconds, sampleSeconds, TimeUnit.SECONDS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.execute(() -> {
+                for (long iteration = 0; System.nanoTime() < deadline; iteration++) {
+                    try {
+                        if (iteration % 2 == 0) {
+                            courierFlow();
+                        } else {
+                            orderFlow();
+                        }
+                    } catch (Exception e) {
+                        // неожиданный статус или сетевая ошибка: сценарий начинается заново
+                        errors.increment();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(durationSeconds + 60, TimeUnit.SECONDS);
+        sampler.shutdownNow();
+        sample();
+    }
+
+    private void courierFlow() {
+        Courier courier = TestData.courier();
+        boolean deleted = false;
+        try {
+            call(() -> given().spec(Specs.base()).body(courier).post(Endpoints.COURIER), HttpStatus.SC_CREATED);
+            Response login = call(() -> given().spec(Specs.base())
+                    .body(new LoginRequest(courier.getLogin(), courier.getPassword()))
+                    .post(Endpoints.COURIER_LOGIN), HttpStatus.SC_OK);
+            String id = login.as(CourierIdResponse.class).getId().toString();
+            call(() -> given().spec(Specs.base()).delete(Endpoints.COURIER + "/" + id), HttpStatus.SC_OK);
+            CourierJournal.shared().deleted(courier.getLogin());
+            deleted = true;
+        } finally {
+            if (!deleted) {
+                CleanupQueue.shared().registerLogin(courier.getLogin(), courier.getPassword());
+            }
+        }
+    }
+
+    private void orderFlow() {
+        int track = call(() -> OrdersApi.create(TestData.order()), HttpStatus.SC_CREATED)
+                .as(OrderTrackResponse.class).getTrack();
+        call(() -> OrdersApi.track(track), HttpStatus.SC_OK);
+        call(() -> OrdersApi.cancel(track), HttpStatus.SC_OK);
+        call(() -> given().spec(Specs.base())
+                .queryParams(OrdersQuery.orders().limit(5).toParams())
+                .get(Endpoints.ORDERS), HttpStatus.SC_OK);
+    }
+
+    private Response call(Supplier<Response> request, int expectedStatus) {
+        long start = System.nanoTime();
+        Response response = request.get();
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), HIGHEST_TRACKABLE_MICROS));
+        requests.increment();
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Ожидался статус " + expectedStatus + ", получен " + response.statusCode());
+        }
+        return response;
+    }
+
+    private synchronized void sample() {
+        Histogram window = latency.getIntervalHistogram();
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long heapAfterGc = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (pool.getType() == MemoryType.HEAP && afterGc != null) {
+                heapAfterGc += afterGc.getUsed();
+            }
+        }
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        SoakSample sample = new SoakSample(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                heapUsed, heapAfterGc, gcCount, gcMillis,
+                ManagementFactory.getThreadMXBean().getThreadCount(),
+                requests.sumThenReset(), errors.sumThenReset(),
+                window.getValueAtPercentile(50), window.getValueAtPercentile(95));
+        samples.add(sample);
+
+        SoakSampleEvent event = new SoakSampleEvent();
+        event.heapUsed = sample.getHeapUsed();
+        event.heapAfterGc = sample.getHeapAfterGc();
+        event.gcCount = sample.getGcCount();
+        event.gcMillis = sample.getGcMillis();
+        event.threads = sample.getThreads();
+        event.requests = sample.getRequests();
+        event.errors = sample.getErrors();
+        event.p95Micros = sample.getP95Micros();
+        event.commit();
+    }
+}
@@ -0,0 +1,69 @@
+package soak;
+
+// Снимок за одно окно: память и GC на конец окна, задержки и ошибки — за само окно
+public final class SoakSample {
+    private final long elapsedMillis;
+    private final long heapUsed;
+    private final long heapAfterGc;
+    private final long gcCount;
+    private final long gcMillis;
+    private final int threads;
+    private final long requests;
+    private final long errors;
+    private final long p50Micros;
+    private final long p95Micros;
+
+    SoakSample(long elapsedMillis, long heapUsed, long heapAfterGc, long gcCount, long gcMillis, int threads,
+               long requests, long errors, long p50Micros, long p95Micros) {
+        this.elapsedMillis = elapsedMillis;
+        this.heapUsed = heapUsed;
+        this.heapAfterGc = heapAfterGc;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.threads = threads;
+        this.requests = requests;
+        this.errors = errors;
+        this.p50Micros = p50Micros;
+        this.p95Micros = p95Micros;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getHeapUsed() {
+        return heapUsed;
+    }
+
+    public long getHeapAfterGc() {
+        return heapAfterGc;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP95Micros() {
+        return p95Micros;
+    }
+}
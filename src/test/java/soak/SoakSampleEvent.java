@@ -0,0 +1,44 @@
+package soak;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Срез клиентской стороны за окно soak-прогона: те же числа, что попадают в итоговую сводку
+@Name("scooter.SoakSample")
+@Label("Soak sample")
+@Category({"Scooter", "Soak"})
+@StackTrace(false)
+public class SoakSampleEvent extends Event {
+    @Label("Heap used")
+    @DataAmount
+    long heapUsed;
+
+    @Label("Heap used after last GC")
+    @DataAmount
+    long heapAfterGc;
+
+    @Label("GC count")
+    long gcCount;
+
+    @Label("GC time")
+    @Timespan(Timespan.MILLISECONDS)
+    long gcMillis;
+
+    @Label("Threads")
+    int threads;
+
+    @Label("Requests in window")
+    long requests;
+
+    @Label("Errors in window")
+    long errors;
+
+    @Label("p95 latency")
+    @Timespan(Timespan.MICROSECONDS)
+    long p95Micros;
+}
@@ -0,0 +1,484 @@
+package stub;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import pojo.Endpoints;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Встроенная in-memory замена qa-scooter: те же ручки, коды ответов и сообщения, что проверяют тесты
+public class ScooterStubServer {
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+    private static final int STATUS_CREATED = 0;
+    private static final int STATUS_ACCEPTED = 1;
+    private static final int STATUS_FINISHED = 2;
+    private static final int STATUS_CANCELLED = -1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StoredCourier> couriersByLogin = new ConcurrentHashMap<>();
+    private final Map<Integer, StoredCourier> couriersById = new ConcurrentHashMap<>();
+    // заказы отсортированы по id, чтобы страницы списка были стабильными
+    private final Map<Integer, JsonObject> orders = new ConcurrentSkipListMap<>();
+    private final Map<Integer, JsonObject> ordersByTrack = new ConcurrentHashMap<>();
+    private final AtomicInteger courierIds = new AtomicInteger();
+    private final AtomicInteger orderIds = new AtomicInteger();
+    private final AtomicInteger tracks = new AtomicInteger(100000);
+
+    public ScooterStubServer(int port, int threads) {
+        // без TCP_NODELAY ответ на переиспользованном keep-alive соединении ждёт ~40 мс (Nagle + delayed ACK);
+        // настройку HttpServer читает один раз при создании первого сервера
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            // HttpServer принимает соединения на одном селекторе (NIO), обработка уходит в пул
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "scooter-stub-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/v1/", this::handle);
+    }
+
+    public static ScooterStubServer shared() {
+        return Holder.INSTANCE;
+    }
+
+    public ScooterStubServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String baseUri() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public void seedOrders(int count) {
+        for (int i = 0; i < count; i++) {
+            JsonObject order = new JsonObject();
+            order.addProperty("firstName", "Seed");
+            order.addProperty("lastName", "Order" + i);
+            order.addProperty("address", "Stub street, " + i);
+            order.addProperty("metroStation", 1 + i % 10);
+            order.addProperty("phone", "+7 800 000 00 0" + i % 10);
+            order.addProperty("rentTime", 1 + i % 7);
+            order.addProperty("deliveryDate", "2020-06-06");
+            order.addProperty("comment", "seed");
+            order.add("color", new JsonArray());
+            createOrder(order);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(method) && Endpoints.COURIER.equals(path)) {
+                createCourier(exchange);
+            } else if ("POST".equals(method) && Endpoints.COURIER_LOGIN.equals(path)) {
+                loginCourier(exchange);
+            } else if ("DELETE".equals(method) && path.startsWith(Endpoints.COURIER + "/")) {
+                deleteCourier(exchange, path.substring(Endpoints.COURIER.length() + 1));
+            } else if ("POST".equals(method) && Endpoints.ORDERS.equals(path)) {
+                JsonObject order = readBody(exchange);
+                JsonObject created = createOrder(order == null ? new JsonObject() : order);
+                JsonObject body = new JsonObject();
+                body.addProperty("track", created.get("track").getAsInt());
+                send(exchange, 201, body);
+            } else if ("GET".equals(method) && Endpoints.ORDERS.equals(path)) {
+                listOrders(exchange);
+            } else if ("GET".equals(method) && Endpoints.ORDERS_TRACK.equals(path)) {
+                trackOrder(exchange);
+            } else if ("PUT".equals(method) && path.startsWith(Endpoints.ORDERS_ACCEPT + "/")) {
+                acceptOrder(exchange, path.substring(Endpoints.ORDERS_ACCEPT.length() + 1));
+            } else if ("PUT".equals(method) && path.startsWith(Endpoints.ORDERS_FINISH + "/")) {
+                finishOrder(exchange, path.substring(Endpoints.ORDERS_FINISH.length() + 1));
+            } else if ("PUT".equals(method) && Endpoints.ORDERS_CANCEL.equals(path)) {
+                cancelOrder(exchange);
+            } else {
+                sendMessage(exchange, 404, "Not Found.");
+            }
+        } catch (RuntimeException e) {
+            sendMessage(exchange, 500, String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void createCourier(HttpExchange exchange) throws IOException {
+        JsonObject body = readBody(exchange);
+        String login = string(body, "login");
+        String password = string(body, "password");
+        String firstName = string(body, "firstName");
+        if (isBlank(login) || isBlank(password) || isBlank(firstName)) {
+            sendMessage(exchange, 400, "Недостаточно данных для создания учетной записи");
+            return;
+        }
+        StoredCourier courier = new StoredCourier(courierIds.incrementAndGet(), login, password, firstName);
+        if (couriersByLogin.putIfAbsent(login, courier) != null) {
+            sendMessage(exchange, 409, "Этот логин уже используется");
+            return;
+        }
+        couriersById.put(courier.id, courier);
+        JsonObject ok = new JsonObject();
+        ok.addProperty("ok", true);
+        send(exchange, 201, ok);
+    }
+
+    private void loginCourier(HttpExchange exchange) throws IOException {
+        JsonObject body = readBody(exchange);
+        String login = string(body, "login");
+        String password = string(body, "password");
+        if (isBlank(login) || isBlank(password)) {
+            sendMessage(exchange, 400, "Недостаточно данных для входа");
+            return;
+        }
+        StoredCourier courier = couriersByLogin.get(login);
+        if (courier == null || !courier.password.equals(password)) {
+            sendMessage(exchange, 404, "Учетная запись не найдена");
+            return;
+        }
+        JsonObject id = new JsonObject();
+        id.addProperty("id", courier.id);
+        send(exchange, 200, id);
+    }
+
+    private void deleteCourier(HttpExchange exchange, String rawId) throws IOException {
+        if (rawId.isEmpty()) {
+            sendMessage(exchange, 400, "Недостаточно данных для удаления курьера");
+            return;
+        }
+        StoredCourier courier = null;
+        try {
+            courier = couriersById.remove(Integer.parseInt(rawId));
+        } catch (NumberFormatException ignored) {
+            // "null" и прочий мусор в пути — такого курьера просто нет
+        }
+        if (courier == null) {
+            sendMessage(exchange, 404, "Курьера с таким id нет.");
+            return;
+        }
+        couriersByLogin.remove(courier.login, courier);
+        JsonObject ok = new JsonObject();
+        ok.addProperty("ok", true);
+        send(exchange, 200, ok);
+    }
+
+    private JsonObject createOrder(JsonObject request) {
+        JsonObject order = request.deepCopy();
+        String now = Instant.now().toString();
+        order.addProperty("id", orderIds.incrementAndGet());
+        order.addProperty("track", tracks.incrementAndGet());
+        order.add("courierId", null);
+        order.addProperty("status", STATUS_CREATED);
+        order.addProperty("createdAt", now);
+        order.addProperty("updatedAt", now);
+        orders.put(order.get("id").getAsInt(), order);
+        ordersByTrack.put(order.get("track").getAsInt(), order);
+        return order;
+    }
+
+    // GET /api/v1/orders?courierId=&nearestStation=["1","2"]&limit=&page=
+    private void listOrders(HttpExchange exchange) throws IOException {
+        Map<String, String> query = query(exchange);
+        int limit = intParam(query, "limit", 30);
+        int page = intParam(query, "page", 0);
+        String courierId = query.get("courierId");
+        if (courierId != null && !couriersById.containsKey(intParam(query, "courierId", -1))) {
+            sendMessage(exchange, 404, "Курьер с идентификатором " + courierId + " не найден");
+            return;
+        }
+        Set<String> stations = null;
+        if (query.containsKey("nearestStation")) {
+            stations = stations(query.get("nearestStation"));
+            if (stations == null) {
+                sendMessage(exchange, 400, "Недостаточно данных для поиска");
+                return;
+            }
+        }
+
+        JsonArray list = new JsonArray();
+        int total = 0;
+        for (JsonObject order : orders.values()) {
+            // accept/finish/cancel меняют заказ на месте: фильтр и копия под тем же замком
+            synchronized (order) {
+                if (courierId != null && !courierId.equals(string(order, "courierId"))) {
+                    continue;
+                }
+                if (stations != null && !stations.contains(string(order, "metroStation"))) {
+                    continue;
+                }
+                if (total >= page * limit && total < (page + 1) * limit) {
+                    list.add(order.deepCopy());
+                }
+            }
+            total++;
+        }
+        JsonObject pageInfo = new JsonObject();
+        pageInfo.addProperty("page", page);
+        pageInfo.addProperty("total", total);
+        pageInfo.addProperty("limit", limit);
+        JsonObject body = new JsonObject();
+        body.add("orders", list);
+        body.add("pageInfo", pageInfo);
+        body.add("availableStations", new JsonArray());
+        send(exchange, 200, body);
+    }
+
+    // GET /api/v1/orders/track?t=
+    private void trackOrder(HttpExchange exchange) throws IOException {
+        String track = query(exchange).get("t");
+        if (isBlank(track)) {
+            sendMessage(exchange, 400, "Недостаточно данных для поиска");
+            return;
+        }
+        JsonObject order = ordersByTrack.get(parseId(track));
+        if (order == null) {
+            sendMessage(exchange, 404, "Заказ не найден");
+            return;
+        }
+        JsonObject body = new JsonObject();
+        synchronized (order) {
+            body.add("order", order.deepCopy());
+        }
+        send(exchange, 200, body);
+    }
+
+    // PUT /api/v1/orders/accept/{id}?courierId=
+    private void acceptOrder(HttpExchange exchange, String rawId) throws IOException {
+        String courierId = query(exchange).get("courierId");
+        if (rawId.isEmpty() || isBlank(courierId)) {
+            sendMessage(exchange, 400, "Недостаточно данных для поиска");
+            return;
+        }
+        JsonObject order = orders.get(parseId(rawId));
+        if (order == null) {
+            sendMessage(exchange, 404, "Заказа с таким id не существует");
+            return;
+        }
+        if (!couriersById.containsKey(parseId(courierId))) {
+            sendMessage(exchange, 404, "Курьера с таким id не существует");
+            return;
+        }
+        synchronized (order) {
+            if (order.get("status").getAsInt() != STATUS_CREATED) {
+                sendMessage(exchange, 409, "Этот заказ уже в работе");
+                return;
+            }
+            order.addProperty("courierId", parseId(courierId));
+            updateStatus(order, STATUS_ACCEPTED);
+        }
+        sendOk(exchange);
+    }
+
+    // PUT /api/v1/orders/finish/{id}
+    private void finishOrder(HttpExchange exchange, String rawId) throws IOException {
+        if (rawId.isEmpty()) {
+            sendMessage(exchange, 400, "Недостаточно данных для поиска");
+            return;
+        }
+        JsonObject order = orders.get(parseId(rawId));
+        if (order == null) {
+            sendMessage(exchange, 404, "Заказа с таким id не существует");
+            return;
+        }
+        synchronized (order) {
+            if (order.get("status").getAsInt() != STATUS_ACCEPTED) {
+                sendMessage(exchange, 409, "Этот заказ нельзя завершить");
+                return;
+            }
+            updateStatus(order, STATUS_FINISHED);
+        }
+        sendOk(exchange);
+    }
+
+    // PUT /api/v1/orders/cancel {"track": n}
+    private void cancelOrder(HttpExchange exchange) throws IOException {
+        JsonObject body = readBody(exchange);
+        String track = string(body, "track");
+        if (isBlank(track)) {
+            sendMessage(exchange, 400, "Недостаточно данных для поиска");
+            return;
+        }
+        JsonObject order = ordersByTrack.get(parseId(track));
+        if (order == null) {
+            sendMessage(exchange, 404, "Заказ не найден");
+            return;
+        }
+        synchronized (order) {
+            if (order.get("status").getAsInt() != STATUS_CREATED) {
+                sendMessage(exchange, 409, "Этот заказ уже в работе");
+                return;
+            }
+            updateStatus(order, STATUS_CANCELLED);
+        }
+        sendOk(exchange);
+    }
+
+    private static void updateStatus(JsonObject order, int status) {
+        order.addProperty("status", status);
+        order.addProperty("updatedAt", Instant.now().toString());
+    }
+
+    private static int parseId(String raw) {
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    // некорректное число — как отсутствующий параметр
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // nearestStation=["1","2"]; null — не массив строк JSON
+    private static Set<String> stations(String raw) {
+        try {
+            Set<String> stations = new HashSet<>();
+            for (JsonElement station : JsonParser.parseString(raw).getAsJsonArray()) {
+                stations.add(station.getAsString());
+            }
+            return stations;
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static JsonObject readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String raw = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (raw.isBlank()) {
+                return null;
+            }
+            JsonElement element = JsonParser.parseString(raw);
+            return element.isJsonObject() ? element.getAsJsonObject() : null;
+        }
+    }
+
+    private static String string(JsonObject body, String field) {
+        if (body == null || !body.has(field) || body.get(field).isJsonNull()) {
+            return null;
+        }
+        return body.get(field).getAsString();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private static void sendOk(HttpExchange exchange) throws IOException {
+        JsonObject ok = new JsonObject();
+        ok.addProperty("ok", true);
+        send(exchange, 200, ok);
+    }
+
+    private static void sendMessage(HttpExchange exchange, int status, String message) throws IOException {
+        JsonObject body = new JsonObject();
+        body.addProperty("code", status);
+        body.addProperty("message", message);
+        send(exchange, status, body);
+    }
+
+    private static void send(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        byte[] bytes = GSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class StoredCourier {
+        private final int id;
+        private final String login;
+        private final String password;
+        private final String firstName;
+
+        private StoredCourier(int id, String login, String password, String firstName) {
+            this.id = id;
+            this.login = login;
+            this.password = password;
+            this.firstName = firstName;
+        }
+    }
+
+    private static final class Holder {
+        private static final ScooterStubServer INSTANCE = create();
+
+        private static ScooterStubServer create() {
+            ScooterStubServer server = new ScooterStubServer(
+                    Integer.getInteger("stub.port", 0),
+                    Integer.getInteger("stub.threads", Runtime.getRuntime().availableProcessors() * 4));
+            server.seedOrders(Integer.getInteger("stub.seedOrders", 3));
+            // без shutdown hook: стенд должен отвечать, пока фикстуры дочищают курьеров при завершении JVM
+            return server.start();
+        }
+    }
+
+    // Запуск отдельным процессом: mvn -Pstub exec:java
+    public static void main(String[] args) {
+        if (System.getProperty("stub.port") == null) {
+            System.setProperty("stub.port", "8080");
+        }
+        System.out.println("Scooter stub is listening on " + shared().baseUri());
+    }
+}
@@ -0,0 +1,45 @@
+package tests;
+
+import cassette.CassetteFilter;
+import client.HttpPool;
+import client.Specs;
+import io.qameta.allure.Description;
+import io.qameta.allure.junit4.DisplayName;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.hc.core5.http.HttpStatus;
+import org.junit.Test;
+import pojo.Endpoints;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
+
+@DisplayName("Пул HTTP-соединений")
+public class ConnectionPoolTests {
+
+    @Test
+    @DisplayName("Последовательные запросы переиспользуют соединение")
+    @Description("Проверка, что keep-alive пул отдаёт уже открытое соединение вместо нового подключения")
+    public void sequentialRequestsReuseConnection() {
+        // в replay ответы идут из кассеты, соединения не открываются
+        assumeTrue(CassetteFilter.isLive());
+        // свой пул: параллельные тесты не меняют его счётчики и не занимают его соединения
+        try (HttpPool pool = HttpPool.isolated()) {
+            RestAssuredConfig config = RestAssuredConfig.config()
+                    .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(pool::client));
+            for (int i = 0; i < 5; i++) {
+                given()
+                        .spec(Specs.base())
+                        .config(config)
+                        .get(Endpoints.ORDERS)
+                        .then()
+                        .statusCode(HttpStatus.SC_OK);
+            }
+            HttpPool.Stats stats = pool.poolStats();
+
+            assertThat(stats.toString(), stats.getLeases(), greaterThanOrEqualTo(5L));
+            assertThat(stats.toString(), stats.getHits(), greaterThanOrEqualTo(4L));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package tests;
+
+import cassette.CassetteFilter;
+import client.AsyncScooterClient;
+import data.TestData;
+import fixtures.CleanupQueue;
+import fixtures.CourierPool;
+import fixtures.PooledCourier;
+import io.qameta.allure.junit4.DisplayName;
+import io.restassured.response.Response;
+import matrix.CaseMatrix;
+import matrix.Matrix;
+import matrix.MatrixCase;
+import matrix.MatrixRunner;
+import matrix.Variant;
+import org.apache.hc.core5.http.HttpStatus;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import pojo.Courier;
+import pojo.CourierIdResponse;
+import pojo.ErrorResponse;
+import pojo.LoginRequest;
+import pojo.OkResponse;
+import java.util.List;
+import static matchers.ResponseMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+// Валидация полей курьера матрицей: каждое сочетание вариантов полей — отдельный кейс,
+// все кейсы уходят одной асинхронной пачкой. Асинхронный клиент идёт мимо кассет, поэтому в replay матрица пропускается.
+@DisplayName("Матрица валидации полей курьера")
+@RunWith(MatrixRunner.class)
+public class CourierMatrixTests {
+    private static final int OVERSIZED = Integer.getInteger("matrix.oversizedLength", 256);
+
+    private static PooledCourier courier;
+
+    @BeforeClass
+    public static void leaseCourier() {
+        assumeTrue(CassetteFilter.isLive());
+        courier = CourierPool.shared().lease();
+    }
+
+    @AfterClass
+    public static void releaseCourier() {
+        CourierPool.shared().release(courier);
+    }
+
+    @Matrix
+    public static List<MatrixCase<Courier>> createCourier() {
+        return CaseMatrix.of(Courier::new)
+                .field("login", Courier::setLogin,
+                        Variant.missing(), Variant.empty(), Variant.of("valid", TestData::login),
+                        Variant.unicode(TestData::login), Variant.oversized(TestData::login, OVERSIZED))
+                .field("password", Courier::setPassword,
+                        Variant.missing(), Variant.empty(), Variant.of("valid", TestData::password),
+                        Variant.unicode(TestData::password), Variant.oversized(TestData::password, OVERSIZED))
+                .field("firstName", Courier::setFirstName,
+                        Variant.missing(), Variant.empty(), Variant.of("valid", TestData::firstName),
+                        Variant.unicode(TestData::firstName), Variant.oversized(TestData::firstName, OVERSIZED))
+                .cases(combination -> MatrixCase.of(combination,
+                        body -> AsyncScooterClient.shared().createCourier(body)
+                                .thenApply(response -> cleanupCreated(body, response)),
+                        response -> {
+                            if (combination.anyBlank()) {
+                                ErrorResponse error = response.then()
+                                        .statusCode(HttpStatus.SC_BAD_REQUEST)
+                                        .extract().as(ErrorResponse.class);
+                                assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
+                            } else {
+                                OkResponse ok = response.then()
+                                        .statusCode(HttpStatus.SC_CREATED)
+                                        .extract().as(OkResponse.class);
+                                assertThat(ok, isOk());
+                            }
+                        }));
+    }
+
+    @Matrix
+    public static List<MatrixCase<LoginRequest>> login() {
+        return CaseMatrix.of(LoginRequest::new)
+                .field("login", LoginRequest::setLogin,
+                        Variant.missing(), Variant.empty(), Variant.of("valid", () -> courier.getLogin()),
+                        Variant.of("wrong", TestData::login), Variant.unicode(TestData::login),
+                        Variant.oversized(TestData::login, OVERSIZED))
+                .field("password", LoginRequest::setPassword,
+                        Variant.missing(), Variant.empty(), Variant.of("valid", () -> courier.getPassword()),
+                        Variant.of("wrong", TestData::password), Variant.unicode(TestData::password),
+                        Variant.oversized(TestData::password, OVERSIZED))
+                .cases(combination -> MatrixCase.of(combination,
+                        body -> AsyncScooterClient.shared().login(body),
+                        response -> {
+                            if (combination.anyBlank()) {
+                                ErrorResponse error = response.then()
+                                        .statusCode(HttpStatus.SC_BAD_REQUEST)
+                                        .extract().as(ErrorResponse.class);
+                                assertThat(error, hasMessage("Недостаточно данных для входа"));
+                            } else if (combination.all("valid")) {
+                                CourierIdResponse id = response.then()
+                                        .statusCode(HttpStatus.SC_OK)
+                                        .extract().as(CourierIdResponse.class);
+                                assertThat(id, hasCourierId());
+                            } else {
+                                ErrorResponse error = response.then()
+                                        .statusCode(HttpStatus.SC_NOT_FOUND)
+                                        .extract().as(ErrorResponse.class);
+                                assertThat(error, hasMessage("Учетная запись не найдена"));
+                            }
+                        }));
+    }
+
+    private static Response cleanupCreated(Courier courier, Response response) {
+        if (response.statusCode() == HttpStatus.SC_CREATED) {
+            CleanupQueue.shared().registerLogin(courier.getLogin(), courier.getPassword());
+        }
+        return response;
+    }
+}
@@ -1,6 +1,5 @@
 package tests;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.hc.core5.http.HttpStatus;
 import org.junit.After;
@@ -9,132 +8,134 @@ import org.junit.Test;
 import io.qameta.allure.junit4.DisplayName;
 import io.qameta.allure.Description;
 import io.qameta.allure.Step;
+import fixtures.CleanupQueue;
+import client.Bodies;
 import pojo.Courier;
-import pojo.LoginRequest;
 import pojo.Endpoints;
+import pojo.ErrorResponse;
+import pojo.OkResponse;
+import client.Specs;
 import static io.restassured.RestAssured.given;
-import static org.hamcrest.Matchers.*;
+import static matchers.ResponseMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 
 @DisplayName("POST /api/v1/courier Создание курьера")
 public class CourierTests {
 
-    private Courier courier;
     private String login;
     private String password;
+    private String firstName;
+    private boolean created;
 
     @Before
     public void setUp() {
-        RestAssured.baseURI = Endpoints.BASE_URI;
         login = Courier.generateRandomLogin();
         password = Courier.generateRandomPassword();
-        courier = new Courier(login, password, Courier.generateRandomFirstName());
+        firstName = Courier.generateRandomFirstName();
     }
 
     @After
     public void tearDown() {
-        // Авторизация и получение ID курьера
-        Response loginResponse = given()
-                .header("Content-Type", "application/json")
-                .body(new LoginRequest(login, password))
-                .when()
-                .post(Endpoints.COURIER_LOGIN);
-
-        String courierId = loginResponse.jsonPath().getString("id");
-
-        // Удаление курьера
-        given()
-                .header("Content-Type", "application/json")
-                .when()
-                .delete(Endpoints.COURIER + "/" + courierId);
+        // Удаление курьера уходит в фоновую очередь и не задерживает тест
+        if (created) {
+            CleanupQueue.shared().registerLogin(login, password);
+        }
     }
 
     @Test
     @DisplayName("Создание курьера")
     @Description("Проверка, что курьер может быть успешно создан")
     public void createCourier() {
-        createCourierRequest(courier).then()
+        OkResponse ok = createCourierRequest(login, password, firstName).then()
                 .statusCode(HttpStatus.SC_CREATED)
-                .body("ok", equalTo(true));
+                .extract().as(OkResponse.class);
+        assertThat(ok, isOk());
     }
 
     @Test
     @DisplayName("Создание двух одинаковых курьеров")
     @Description("Проверка, что создание дубликата курьера возвращает ошибку")
     public void createDuplicateCourier() {
-        createCourierRequest(courier);
-        createCourierRequest(courier).then()
+        createCourierRequest(login, password, firstName);
+        ErrorResponse error = createCourierRequest(login, password, firstName).then()
                 .statusCode(HttpStatus.SC_CONFLICT)
-                .body("message", equalTo("Этот логин уже используется"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Этот логин уже используется"));
     }
 
     @Test
     @DisplayName("Создание курьера с пустым логином")
     @Description("Проверка, что отсутствие логина возвращает ошибку")
     public void createCourierWithEmptyLogin() {
-        courier.setLogin("");
-        createCourierRequest(courier).then()
+        ErrorResponse error = createCourierRequest("", password, firstName).then()
                 .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body("message", equalTo("Недостаточно данных для создания учетной записи"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
     }
 
     @Test
     @DisplayName("Создание курьера с пустым паролем")
     @Description("Проверка, что отсутствие пароля возвращает ошибку")
     public void createCourierWithEmptyPassword() {
-        courier.setPassword("");
-        createCourierRequest(courier).then()
+        ErrorResponse error = createCourierRequest(login, "", firstName).then()
                 .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body("message", equalTo("Недостаточно данных для создания учетной записи"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
     }
 
     @Test
     @DisplayName("Создание курьера с пустым именем")
     @Description("Проверка, что отсутствие пароля возвращает ошибку")
     public void createCourierWithEmptyFirstName() {
-        courier.setFirstName("");
-        createCourierRequest(courier).then()
+        ErrorResponse error = createCourierRequest(login, password, "").then()
                 .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body("message", equalTo("Недостаточно данных для создания учетной записи"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
     }
 
     @Test
     @DisplayName("Создание курьера с отсутствующим логином")
     @Description("Проверка, что отсутствие логина возвращает ошибку")
     public void createCourierWithMissingLogin() {
-        courier.setLogin(null);
-        createCourierRequest(courier).then()
+        ErrorResponse error = createCourierRequest(null, password, firstName).then()
                 .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body("message", equalTo("Недостаточно данных для создания учетной записи"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
     }
 
     @Test
     @DisplayName("Создание курьера с отсутствующим паролем")
     @Description("Проверка, что отсутствие пароля возвращает ошибку")
     public void createCourierWithMissingPassword() {
-        courier.setPassword(null);
-        createCourierRequest(courier).then()
+        ErrorResponse error = createCourierRequest(login, null, firstName).then()
                 .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body("message", equalTo("Недостаточно данных для создания учетной записи"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
     }
 
     @Test
     @DisplayName("Создание курьера с отсутствующим именем")
     @Description("Проверка, что отсутствие имени возвращает ошибку")
     public void createCourierWithMissingFirstName() {
-        courier.setFirstName(null);
-        createCourierRequest(courier).then()
+        ErrorResponse error = createCourierRequest(login, password, null).then()
                 .statusCode(HttpStatus.SC_BAD_REQUEST)
-                .body("message", equalTo("Недостаточно данных для создания учетной записи"));
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Недостаточно данных для создания учетной записи"));
     }
 
-    @Step("Создание курьера")
+    // null — поля нет в теле; тело собирается из готового шаблона Bodies
+    @Step("Создание курьера: логин {0}, пароль {1}, имя {2}")
     @DisplayName("POST /api/v1/courier")
-    public Response createCourierRequest(Courier courier) {
-        return given()
-                .header("Content-type", "application/json")
-                .body(courier)
+    public Response createCourierRequest(String login, String password, String firstName) {
+        Response response = given()
+                .spec(Specs.base())
+                .body(Bodies.courier(login, password, firstName))
                 .when()
                 .post(Endpoints.COURIER);
+        if (response.statusCode() == HttpStatus.SC_CREATED) {
+            created = true;
+        }
+        return response;
     }
 }
\ No newline at end of file
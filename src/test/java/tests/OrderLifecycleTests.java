@@ -0,0 +1,123 @@
+package tests;
+
+import client.OrdersApi;
+import data.TestData;
+import fixtures.CourierPool;
+import fixtures.PooledCourier;
+import io.qameta.allure.Description;
+import io.qameta.allure.Step;
+import io.qameta.allure.junit4.DisplayName;
+import io.restassured.response.Response;
+import org.apache.hc.core5.http.HttpStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pojo.ErrorResponse;
+import pojo.OkResponse;
+import pojo.Order;
+import pojo.OrderByTrackResponse;
+import pojo.OrderRequest;
+import pojo.OrderTrackResponse;
+import workflow.OrderPipeline;
+import workflow.PipelineResult;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static matchers.ResponseMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@DisplayName("Жизненный цикл заказа")
+public class OrderLifecycleTests {
+    private PooledCourier courier;
+
+    @Before
+    public void setUp() {
+        courier = CourierPool.shared().lease();
+    }
+
+    @After
+    public void tearDown() {
+        CourierPool.shared().release(courier);
+    }
+
+    @Test
+    @DisplayName("Заказ принимается и завершается курьером")
+    @Description("Проверка цепочки: создание, поиск по треку, принятие курьером и завершение заказа")
+    public void orderCanBeAcceptedAndFinished() {
+        int track = createOrder(OrderRequest.sample(List.of("BLACK")));
+        Order order = findOrder(track);
+
+        assertThat(accept(order.getId()).then().statusCode(HttpStatus.SC_OK).extract().as(OkResponse.class), isOk());
+        assertThat(findOrder(track).getCourierId(), hasToString(courier.getId()));
+        assertThat(finish(order.getId()).then().statusCode(HttpStatus.SC_OK).extract().as(OkResponse.class), isOk());
+    }
+
+    @Test
+    @DisplayName("Созданный заказ можно отменить")
+    @Description("Проверка, что заказ без курьера отменяется по трек-номеру, а принять его после этого нельзя")
+    public void createdOrderCanBeCancelled() {
+        int track = createOrder(OrderRequest.sample(List.of()));
+        Order order = findOrder(track);
+
+        assertThat(cancel(track).then().statusCode(HttpStatus.SC_OK).extract().as(OkResponse.class), isOk());
+        ErrorResponse error = accept(order.getId()).then()
+                .statusCode(HttpStatus.SC_CONFLICT)
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Этот заказ уже в работе"));
+    }
+
+    @Test
+    @DisplayName("Поиск заказа по несуществующему треку")
+    @Description("Проверка, что по несуществующему трек-номеру возвращается 404")
+    public void trackUnknownOrder() {
+        ErrorResponse error = OrdersApi.track(999999999).then()
+                .statusCode(HttpStatus.SC_NOT_FOUND)
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Заказ не найден"));
+    }
+
+    @Test
+    @DisplayName("Конвейер жизненных циклов заказов")
+    @Description("Проверка, что параллельные циклы заказов проходят все стадии без ошибок")
+    public void lifecyclePipelineCompletes() throws InterruptedException {
+        PipelineResult result;
+        try (OrderPipeline pipeline = new OrderPipeline(List.of(courier.getId()), 2, 4, 0.25)) {
+            result = pipeline.run(12, TestData::order, 2, TimeUnit.MINUTES);
+        }
+
+        assertThat(result.getFailures(), is(empty()));
+        assertThat(result.getCompleted(), equalTo(9L));
+        assertThat(result.getCancelled(), equalTo(3L));
+    }
+
+    @Step("Создание заказа")
+    private int createOrder(OrderRequest order) {
+        OrderTrackResponse response = OrdersApi.create(order).then()
+                .statusCode(HttpStatus.SC_CREATED)
+                .extract().as(OrderTrackResponse.class);
+        assertThat(response, hasTrack());
+        return response.getTrack();
+    }
+
+    @Step("Поиск заказа по треку {0}")
+    private Order findOrder(int track) {
+        return OrdersApi.track(track).then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().as(OrderByTrackResponse.class).getOrder();
+    }
+
+    @Step("Принятие заказа {0} курьером")
+    private Response accept(int orderId) {
+        return OrdersApi.accept(orderId, courier.getId());
+    }
+
+    @Step("Завершение заказа {0}")
+    private Response finish(int orderId) {
+        return OrdersApi.finish(orderId);
+    }
+
+    @Step("Отмена заказа {0}")
+    private Response cancel(int track) {
+        return OrdersApi.cancel(track);
+    }
+}
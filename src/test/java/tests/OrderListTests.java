@@ -1,32 +1,170 @@
 package tests;
 
-import io.restassured.RestAssured;
+import cassette.CassetteFilter;
+import client.AsyncScooterClient;
+import client.OrderSchema;
+import client.OrdersStream;
+import com.google.gson.JsonObject;
+import io.qameta.allure.Step;
 import org.apache.hc.core5.http.HttpStatus;
-import org.junit.Before;
 import org.junit.Test;
 import io.qameta.allure.junit4.DisplayName;
 import io.qameta.allure.Description;
 import pojo.Endpoints;
+import pojo.ErrorResponse;
+import pojo.OrderRequest;
+import pojo.OrdersPage;
+import pojo.OrderTrackResponse;
+import pojo.OrdersQuery;
+import client.Specs;
+import io.restassured.response.Response;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static matchers.ResponseMatchers.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
 
 @DisplayName("GET /api/v1/orders Список заказов")
 public class OrderListTests {
-
-    @Before
-    public void setUp() {
-        RestAssured.baseURI = Endpoints.BASE_URI;
-    }
+    // -Dorders.walk.maxPages=0 проверяет схему на всех страницах списка
+    private static final int WALK_LIMIT = Integer.getInteger("orders.walk.limit", 2);
+    private static final int WALK_MAX_PAGES = Integer.getInteger("orders.walk.maxPages", 50);
+    private static final int BULK_ORDERS = Integer.getInteger("orders.bulk", 50);
+    private static final int BULK_PAGE_LIMIT = Integer.getInteger("orders.bulk.pageLimit", 100);
+    private static final int BULK_MAX_PAGES = Integer.getInteger("orders.bulk.maxPages", 20);
 
     @Test
     @DisplayName("Получение списка заказов")
-    @Description("Проверка, что в тело ответа возвращается список заказов")
+    @Description("Проверка, что в тело ответа возвращается список заказов: ответ читается потоком до первого заказа")
     public void getOrdersList() {
-        given()
-                .header("Content-Type", "application/json")
+        Optional<JsonObject> first = OrdersStream.first(OrdersQuery.orders());
+
+        assertThat("список заказов пуст", first.isPresent(), is(true));
+        assertThat(OrderSchema.violations(first.get()), is(empty()));
+    }
+
+    @Test
+    @DisplayName("Получение страницы списка заказов")
+    @Description("Проверка, что limit и page ограничивают список и возвращаются в pageInfo")
+    public void getOrdersListPage() {
+        OrdersPage page = given()
+                .spec(Specs.base())
+                .queryParams(OrdersQuery.orders().limit(2).page(1).toParams())
                 .get(Endpoints.ORDERS)
                 .then()
                 .statusCode(HttpStatus.SC_OK)
-                .body("orders", is(not(empty())));
+                .extract().as(OrdersPage.class);
+        assertThat(page, hasOrders(hasSize(lessThanOrEqualTo(2))));
+        assertThat(page, hasPageInfo(page(1, 2)));
+    }
+
+    @Test
+    @DisplayName("Получение заказов у ближайшей станции")
+    @Description("Проверка, что nearestStation оставляет в списке только заказы с этих станций")
+    public void getOrdersListByNearestStation() {
+        createOrder(OrderRequest.sample(List.of()));
+
+        OrdersPage page = given()
+                .spec(Specs.base())
+                .queryParams(OrdersQuery.orders().nearestStation("4").limit(10).toParams())
+                .get(Endpoints.ORDERS)
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().as(OrdersPage.class);
+        assertThat(page, hasOrders(is(not(empty()))));
+        assertThat(page, hasOrders(everyItem(atStation("4"))));
+    }
+
+    @Test
+    @DisplayName("Получение заказов несуществующего курьера")
+    @Description("Проверка, что по courierId несуществующего курьера возвращается 404")
+    public void getOrdersListByUnknownCourier() {
+        ErrorResponse error = given()
+                .spec(Specs.base())
+                .queryParams(OrdersQuery.orders().courierId(999999999).toParams())
+                .get(Endpoints.ORDERS)
+                .then()
+                .statusCode(HttpStatus.SC_NOT_FOUND)
+                .extract().as(ErrorResponse.class);
+        assertThat(error, hasMessage("Курьер с идентификатором 999999999 не найден"));
+    }
+
+    @Test
+    @DisplayName("Схема заказов на всех страницах")
+    @Description("Проверка схемы каждого заказа при постраничном обходе списка: страницы читаются потоком по одному заказу")
+    public void allOrdersPagesMatchSchema() {
+        List<String> violations = new ArrayList<>();
+        OrdersStream.Walk walk = OrdersStream.walk(OrdersQuery.orders().limit(WALK_LIMIT), WALK_MAX_PAGES,
+                order -> violations.addAll(OrderSchema.violations(order)));
+
+        assertThat(walk.toString(), walk.getOrders(), greaterThan(0L));
+        assertThat(violations, is(empty()));
+    }
+
+    @Test
+    @DisplayName("Пачка заказов, созданная одновременно, появляется в списке")
+    @Description("Проверка, что заказы, отправленные разом асинхронным клиентом, все создаются и видны в списке у станции")
+    public void bulkCreatedOrdersAppearInList() {
+        // асинхронный клиент идёт мимо кассет
+        assumeTrue(CassetteFilter.isLive());
+        AsyncScooterClient client = AsyncScooterClient.shared();
+        List<CompletableFuture<Response>> created = new ArrayList<>();
+        for (int i = 0; i < BULK_ORDERS; i++) {
+            created.add(client.createOrder(OrderRequest.sample(List.of("GREY"))));
+        }
+        try {
+            Set<Integer> missing = new HashSet<>();
+            for (CompletableFuture<Response> future : created) {
+                OrderTrackResponse response = future.join()
+                        .then()
+                        .statusCode(HttpStatus.SC_CREATED)
+                        .extract().as(OrderTrackResponse.class);
+                assertThat(response, hasTrack());
+                missing.add(response.getTrack());
+            }
+
+            // на общем стенде у станции много чужих заказов: ищем свои треки не дальше BULK_MAX_PAGES страниц
+            List<String> otherStations = new ArrayList<>();
+            OrdersStream.Walk walk = OrdersStream.walk(OrdersQuery.orders().nearestStation("4").limit(BULK_PAGE_LIMIT),
+                    BULK_MAX_PAGES, order -> {
+                        missing.remove(order.get("track").getAsInt());
+                        if (order.get("metroStation").getAsInt() != 4) {
+                            otherStations.add(order.get("track").getAsString());
+                        }
+                    });
+            assertThat("созданные заказы не найдены в списке станции (" + walk + ")", missing, is(empty()));
+            assertThat("заказы других станций в списке станции", otherStations, is(empty()));
+        } finally {
+            cancelOrders(client, created);
+        }
+    }
+
+    // заказы пачки отменяются в любом случае, иначе каждый прогон удлиняет список станции на общем стенде
+    @Step("Отмена созданных заказов")
+    private void cancelOrders(AsyncScooterClient client, List<CompletableFuture<Response>> created) {
+        List<CompletableFuture<Response>> cancelled = new ArrayList<>();
+        for (CompletableFuture<Response> future : created) {
+            Response response = future.exceptionally(error -> null).join();
+            if (response != null && response.statusCode() == HttpStatus.SC_CREATED) {
+                cancelled.add(client.cancelOrder(response.as(OrderTrackResponse.class).getTrack()));
+            }
+        }
+        CompletableFuture.allOf(cancelled.toArray(new CompletableFuture[0])).exceptionally(error -> null).join();
+    }
+
+    @Step("Создание заказа")
+    private void createOrder(OrderRequest order) {
+        given()
+                .spec(Specs.base())
+                .body(order)
+                .post(Endpoints.ORDERS)
+                .then()
+                .statusCode(HttpStatus.SC_CREATED);
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,32 @@
 package tests;
 
 import io.qameta.allure.Step;
-import io.restassured.RestAssured;
 import org.apache.hc.core5.http.HttpStatus;
-import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import io.qameta.allure.junit4.DisplayName;
 import io.qameta.allure.Description;
-import pojo.OrderRequest;
+import perf.LatencyBudget;
+import perf.LatencyBudgetRule;
+import pojo.OrderTrackResponse;
 import pojo.Endpoints;
+import client.Bodies;
+import client.Specs;
 import java.util.List;
 import static io.restassured.RestAssured.given;
-import static org.hamcrest.Matchers.*;
+import static matchers.ResponseMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 @DisplayName("POST /api/v1/orders Создание заказа")
 @RunWith(Parameterized.class)
+@LatencyBudget(method = "POST", path = Endpoints.ORDERS, millis = 300)
 public class OrderTests {
 
+    @Rule
+    public LatencyBudgetRule latencyBudget = new LatencyBudgetRule();
+
     @Parameterized.Parameter
     public List<String> colors;
 
@@ -32,35 +40,21 @@ public class OrderTests {
         };
     }
 
-    @Before
-    public void setUp() {
-        RestAssured.baseURI = Endpoints.BASE_URI;
-    }
-
     @Test
     @DisplayName("Создание заказа с цветом")
     @Description("Проверка создания заказа с различными цветами")
     public void createOrderWithColor() {
         logColors(colors);
-        OrderRequest orderRequest = new OrderRequest(
-                "Naruto",
-                "Uchiha",
-                "Konoha, 142 apt.",
-                4,
-                "+7 800 355 35 35",
-                5,
-                "2020-06-06",
-                "Saske, come back to Konoha",
-                colors
-        );
 
-        given()
-                .header("Content-Type", "application/json")
-                .body(orderRequest)
+        // тело OrderRequest.sample из готового шаблона, подставляется только цвет
+        OrderTrackResponse response = given()
+                .spec(Specs.base())
+                .body(Bodies.ORDER.with(colors))
                 .post(Endpoints.ORDERS)
                 .then()
                 .statusCode(HttpStatus.SC_CREATED)
-                .body("track", notNullValue());
+                .extract().as(OrderTrackResponse.class);
+        assertThat(response, hasTrack());
     }
 
     @Step("Тестируемые цвета: {0}")
@@ -0,0 +1,27 @@
+package workflow;
+
+import pojo.OrderRequest;
+
+// Состояние одного жизненного цикла заказа, которое передаётся между стадиями
+final class OrderFlow {
+    final int number;
+    final OrderRequest request;
+    final boolean cancel;
+    final long startedNanos;
+    long enqueuedNanos;
+    Integer track;
+    Integer orderId;
+    String courierId;
+
+    OrderFlow(int number, OrderRequest request, boolean cancel) {
+        this.number = number;
+        this.request = request;
+        this.cancel = cancel;
+        this.startedNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "заказ #" + number + " (track=" + track + ", id=" + orderId + ")";
+    }
+}
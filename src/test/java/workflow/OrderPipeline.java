@@ -0,0 +1,164 @@
+package workflow;
+
+import client.OrdersApi;
+import data.TestData;
+import fixtures.CourierPool;
+import fixtures.PooledCourier;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.apache.hc.core5.http.HttpStatus;
+import pojo.OrderByTrackResponse;
+import pojo.OrderRequest;
+import pojo.OrderTrackResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Конвейер жизненного цикла заказа: create → track → accept → finish, каждый cancelRatio-й заказ
+// после track отменяется. Стадии работают параллельно, между ними ограниченные очереди, поэтому
+// в работе одновременно до stages * (workers + capacity) заказов, а самая медленная стадия задаёт темп.
+public class OrderPipeline implements AutoCloseable {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int MAX_FAILURE_MESSAGES = 20;
+
+    private final Stage create;
+    private final Stage track;
+    private final Stage accept;
+    private final Stage finish;
+    private final Stage cancel;
+    private final List<Stage> stages;
+    private final List<String> courierIds;
+    private final double cancelRatio;
+
+    private final Histogram endToEnd = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Queue<String> failures = new ConcurrentLinkedQueue<>();
+    private volatile CountDownLatch done;
+
+    public OrderPipeline(List<String> courierIds, int workersPerStage, int queueCapacity, double cancelRatio) {
+        if (courierIds.isEmpty()) {
+            throw new IllegalArgumentException("Для принятия заказов нужен хотя бы один курьер");
+        }
+        this.courierIds = List.copyOf(courierIds);
+        this.cancelRatio = cancelRatio;
+        create = new Stage("create", queueCapacity);
+        track = new Stage("track", queueCapacity);
+        accept = new Stage("accept", queueCapacity);
+        finish = new Stage("finish", queueCapacity);
+        cancel = new Stage("cancel", queueCapacity);
+        stages = List.of(create, track, accept, finish, cancel);
+
+        Stage.Sink sink = new Stage.Sink() {
+            @Override
+            public void completed(OrderFlow flow) {
+                endToEnd.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - flow.startedNanos),
+                        HIGHEST_TRACKABLE_MICROS));
+                (flow.cancel ? cancelled : completed).increment();
+                done.countDown();
+            }
+
+            @Override
+            public void failed(OrderFlow flow, Stage stage, Throwable error) {
+                failed.increment();
+                if (failures.size() < MAX_FAILURE_MESSAGES) {
+                    failures.add(stage.getName() + ": " + flow + ": " + error.getMessage());
+                }
+                done.countDown();
+            }
+        };
+        create.start(this::create, workersPerStage, sink);
+        track.start(this::track, workersPerStage, sink);
+        accept.start(this::accept, workersPerStage, sink);
+        finish.start(this::finish, workersPerStage, sink);
+        cancel.start(this::cancel, workersPerStage, sink);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int orders = Integer.getInteger("lifecycle.orders", 1000);
+        int couriers = Integer.getInteger("lifecycle.couriers", 4);
+        List<PooledCourier> leased = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < couriers; i++) {
+            PooledCourier courier = CourierPool.shared().lease();
+            leased.add(courier);
+            ids.add(courier.getId());
+        }
+        PipelineResult result;
+        try (OrderPipeline pipeline = new OrderPipeline(ids,
+                Integer.getInteger("lifecycle.workers", 8),
+                Integer.getInteger("lifecycle.queue", 64),
+                Double.parseDouble(System.getProperty("lifecycle.cancelRatio", "0.2")))) {
+            result = pipeline.run(orders, TestData::order, 10, TimeUnit.MINUTES);
+        } finally {
+            leased.forEach(CourierPool.shared()::release);
+        }
+        result.print(System.out);
+        // встроенный стенд держит не-daemon поток HttpServer, поэтому выходим явно
+        System.exit(result.getFailed() == 0 ? 0 : 1);
+    }
+
+    // Один прогон: orders заказов через все стадии; вызывающий поток подаёт заказы и ждёт завершения
+    public PipelineResult run(int orders, Supplier<OrderRequest> orderFactory, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        done = new CountDownLatch(orders);
+        long started = System.nanoTime();
+        for (int i = 0; i < orders; i++) {
+            boolean cancelOrder = Math.floor((i + 1) * cancelRatio) > Math.floor(i * cancelRatio);
+            create.submit(new OrderFlow(i, orderFactory.get(), cancelOrder));
+        }
+        boolean finished = done.await(timeout, unit);
+        long elapsed = System.nanoTime() - started;
+
+        List<StageStats> stageStats = new ArrayList<>();
+        stages.forEach(stage -> stageStats.add(stage.stats()));
+        List<String> messages = new ArrayList<>(failures);
+        if (!finished) {
+            messages.add("не завершились за " + timeout + " " + unit + ": " + done.getCount() + " заказов");
+        }
+        return new PipelineResult(orders, completed.sum(), cancelled.sum(), failed.sum() + done.getCount(),
+                elapsed, endToEnd.copy(), stageStats, messages);
+    }
+
+    @Override
+    public void close() {
+        stages.forEach(Stage::stop);
+    }
+
+    private Stage create(OrderFlow flow) {
+        flow.track = OrdersApi.create(flow.request).then()
+                .statusCode(HttpStatus.SC_CREATED)
+                .extract().as(OrderTrackResponse.class).getTrack();
+        return track;
+    }
+
+    private Stage track(OrderFlow flow) {
+        flow.orderId = OrdersApi.track(flow.track).then()
+                .statusCode(HttpStatus.SC_OK)
+                .extract().as(OrderByTrackResponse.class).getOrder().getId();
+        return flow.cancel ? cancel : accept;
+    }
+
+    private Stage accept(OrderFlow flow) {
+        flow.courierId = courierIds.get(flow.number % courierIds.size());
+        OrdersApi.accept(flow.orderId, flow.courierId).then().statusCode(HttpStatus.SC_OK);
+        return finish;
+    }
+
+    private Stage finish(OrderFlow flow) {
+        OrdersApi.finish(flow.orderId).then().statusCode(HttpStatus.SC_OK);
+        return null;
+    }
+
+    private Stage cancel(OrderFlow flow) {
+        OrdersApi.cancel(flow.track).then().statusCode(HttpStatus.SC_OK);
+        return null;
+    }
+}
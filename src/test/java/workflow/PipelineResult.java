@@ -0,0 +1,98 @@
+package workflow;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Итог прогона конвейера: пропускная способность, сквозная задержка и задержки по стадиям в миллисекундах
+public class PipelineResult {
+    private final int orders;
+    private final long completed;
+    private final long cancelled;
+    private final long failed;
+    private final long elapsedNanos;
+    private final Histogram endToEnd;
+    private final List<StageStats> stages;
+    private final List<String> failures;
+
+    PipelineResult(int orders, long completed, long cancelled, long failed, long elapsedNanos, Histogram endToEnd,
+                   List<StageStats> stages, List<String> failures) {
+        this.orders = orders;
+        this.completed = completed;
+        this.cancelled = cancelled;
+        this.failed = failed;
+        this.elapsedNanos = elapsedNanos;
+        this.endToEnd = endToEnd;
+        this.stages = stages;
+        this.failures = failures;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public List<StageStats> getStages() {
+        return stages;
+    }
+
+    public Histogram getEndToEnd() {
+        return endToEnd;
+    }
+
+    public double getThroughput() {
+        return (completed + cancelled) / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    // Узкое место — самая загруженная стадия: её рабочие дольше всех заняты, остальные ждут её
+    public StageStats getBottleneck() {
+        StageStats busiest = null;
+        for (StageStats stage : stages) {
+            if (busiest == null || stage.utilization(elapsedNanos) > busiest.utilization(elapsedNanos)) {
+                busiest = stage;
+            }
+        }
+        return busiest;
+    }
+
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "Order lifecycle: %d orders, %d finished, %d cancelled, %d failed, %.1f orders/s%n",
+                orders, completed, cancelled, failed, getThroughput());
+        out.printf(Locale.ROOT, "  end-to-end ms: p50=%.2f p95=%.2f p99=%.2f max=%.2f%n",
+                millis(endToEnd, 50), millis(endToEnd, 95), millis(endToEnd, 99), endToEnd.getMaxValue() / 1000.0);
+        for (StageStats stage : stages) {
+            out.printf(Locale.ROOT, "  %-7s n=%-6d util=%3.0f%%  service p50=%.2f p95=%.2f  queue wait p50=%.2f p95=%.2f"
+                            + "  max depth=%d%n",
+                    stage.getName(), stage.getService().getTotalCount(), stage.utilization(elapsedNanos) * 100,
+                    millis(stage.getService(), 50), millis(stage.getService(), 95),
+                    millis(stage.getWait(), 50), millis(stage.getWait(), 95), stage.getMaxDepth());
+        }
+        StageStats bottleneck = getBottleneck();
+        if (bottleneck != null) {
+            out.println("  bottleneck: " + bottleneck.getName());
+        }
+        failures.forEach(failure -> out.println("  failed " + failure));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
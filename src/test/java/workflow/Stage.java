@@ -0,0 +1,105 @@
+package workflow;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Стадия конвейера: ограниченная очередь и свои рабочие потоки. Полная очередь блокирует
+// предыдущую стадию (backpressure). Время в очереди и время обработки пишутся в отдельные гистограммы,
+// так что узкое место видно по стадии с растущим ожиданием.
+final class Stage {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    interface Action {
+        // возвращает следующую стадию или null, если цикл заказа завершён
+        Stage process(OrderFlow flow);
+    }
+
+    interface Sink {
+        void completed(OrderFlow flow);
+
+        void failed(OrderFlow flow, Stage stage, Throwable error);
+    }
+
+    private final String name;
+    private final BlockingQueue<OrderFlow> queue;
+    private final Histogram wait = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram service = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private Action action;
+
+    Stage(String name, int capacity) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    void start(Action action, int workerCount, Sink sink) {
+        this.action = action;
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(() -> work(sink), "order-" + name + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    void submit(OrderFlow flow) throws InterruptedException {
+        flow.enqueuedNanos = System.nanoTime();
+        queue.put(flow);
+        maxDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    StageStats stats() {
+        return new StageStats(name, wait.copy(), service.copy(), maxDepth.get(), workers.size());
+    }
+
+    private void work(Sink sink) {
+        while (!Thread.currentThread().isInterrupted()) {
+            OrderFlow flow;
+            try {
+                flow = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long started = System.nanoTime();
+            record(wait, started - flow.enqueuedNanos);
+            Stage next;
+            try {
+                next = action.process(flow);
+            } catch (RuntimeException | AssertionError e) {
+                record(service, System.nanoTime() - started);
+                sink.failed(flow, this, e);
+                continue;
+            }
+            record(service, System.nanoTime() - started);
+            if (next == null) {
+                sink.completed(flow);
+                continue;
+            }
+            try {
+                next.submit(flow);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void record(Histogram histogram, long nanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+}
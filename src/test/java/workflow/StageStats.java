@@ -0,0 +1,42 @@
+package workflow;
+
+import org.HdrHistogram.Histogram;
+
+// Итог стадии: ожидание в очереди, обработка (мкс), наибольшая замеченная глубина очереди
+// и загрузка — доля времени, которую рабочие потоки стадии были заняты
+public class StageStats {
+    private final String name;
+    private final Histogram wait;
+    private final Histogram service;
+    private final int maxDepth;
+    private final int workers;
+
+    StageStats(String name, Histogram wait, Histogram service, int maxDepth, int workers) {
+        this.name = name;
+        this.wait = wait;
+        this.service = service;
+        this.maxDepth = maxDepth;
+        this.workers = workers;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Histogram getWait() {
+        return wait;
+    }
+
+    public Histogram getService() {
+        return service;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public double utilization(long elapsedNanos) {
+        double busyMicros = service.getMean() * service.getTotalCount();
+        return busyMicros / (elapsedNanos / 1000.0 * workers);
+    }
+}